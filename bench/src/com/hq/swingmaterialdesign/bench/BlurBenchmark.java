@@ -0,0 +1,52 @@
+package com.hq.swingmaterialdesign.bench;
+
+import com.hq.swingmaterialdesign.materialdesign.FastGaussianBlur;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks {@link FastGaussianBlur} on images of several sizes and types.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class BlurBenchmark {
+
+    @Param({"64", "256", "1024"})
+    public int size;
+
+    @Param({"1", "2", "4"})
+    public double radius;
+
+    @Param({"3"})
+    public int passes;
+
+    @Param({"TYPE_4BYTE_ABGR", "TYPE_INT_ARGB", "TYPE_BYTE_GRAY"})
+    public String imageType;
+
+    private BufferedImage image;
+
+    @Setup
+    public void setUp() {
+        image = new BufferedImage(size, size, ImageTypes.valueOf(imageType));
+        Random random = new Random(42);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+    }
+
+    @Benchmark
+    public BufferedImage blur() {
+        FastGaussianBlur.blur(image, radius, passes);
+        return image;
+    }
+}
@@ -0,0 +1,98 @@
+package com.hq.swingmaterialdesign.bench;
+
+import com.hq.swingmaterialdesign.materialdesign.MaterialButton;
+import com.hq.swingmaterialdesign.materialdesign.resource.MaterialColor;
+import java.awt.Graphics2D;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Benchmarks painting a {@link MaterialButton} into an offscreen image, both
+ * idle and while it ripples. A new ripple is started at the beginning of each
+ * iteration of the rippling benchmark, and iterations are shorter than a
+ * ripple, so it measures the average frame of an ongoing ripple.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ButtonBenchmark {
+
+    @Param({"DEFAULT", "FLAT", "RAISED"})
+    public String type;
+
+    @Param({"120x40", "600x200"})
+    public String size;
+
+    @Param({"TYPE_INT_RGB", "TYPE_INT_ARGB_PRE"})
+    public String imageType;
+
+    private MaterialButton button;
+    private BufferedImage canvas;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        int width = Integer.parseInt(size.substring(0, size.indexOf('x')));
+        int height = Integer.parseInt(size.substring(size.indexOf('x') + 1));
+        JPanel parent = new JPanel(null);
+        parent.setBackground(MaterialColor.GREY_200);
+
+        button = new MaterialButton();
+        button.setType(MaterialButton.Type.valueOf(type));
+        button.setBackground(MaterialColor.CYAN_500);
+        button.setText("Benchmark");
+        button.setBounds(0, 0, width, height);
+        parent.add(button);
+
+        canvas = new BufferedImage(width, height, ImageTypes.valueOf(imageType));
+        graphics = canvas.createGraphics();
+    }
+
+    @Setup(Level.Iteration)
+    public void startRipple(BenchmarkParams params) {
+        if (params.getBenchmark().endsWith("Rippling")) {
+            press(button);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paintIdle() {
+        button.paint(graphics);
+        return canvas;
+    }
+
+    @Benchmark
+    public BufferedImage paintRippling() {
+        button.paint(graphics);
+        return canvas;
+    }
+
+    static void press(JComponent component) {
+        MouseEvent press = new MouseEvent(component, MouseEvent.MOUSE_PRESSED, System.currentTimeMillis(), 0,
+                component.getWidth() / 2, component.getHeight() / 2, 1, false, MouseEvent.BUTTON1);
+        for (MouseListener listener : component.getMouseListeners()) {
+            listener.mousePressed(press);
+        }
+        MouseEvent release = new MouseEvent(component, MouseEvent.MOUSE_RELEASED, System.currentTimeMillis(), 0,
+                component.getWidth() / 2, component.getHeight() / 2, 1, false, MouseEvent.BUTTON1);
+        for (MouseListener listener : component.getMouseListeners()) {
+            listener.mouseReleased(release);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.hq.swingmaterialdesign.bench;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Resolves {@link BufferedImage} type names used as benchmark parameters.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+final class ImageTypes {
+
+    private ImageTypes() {
+    }
+
+    static int valueOf(String name) {
+        switch (name) {
+            case "TYPE_4BYTE_ABGR":
+                return BufferedImage.TYPE_4BYTE_ABGR;
+            case "TYPE_INT_ARGB":
+                return BufferedImage.TYPE_INT_ARGB;
+            case "TYPE_INT_ARGB_PRE":
+                return BufferedImage.TYPE_INT_ARGB_PRE;
+            case "TYPE_INT_RGB":
+                return BufferedImage.TYPE_INT_RGB;
+            case "TYPE_BYTE_GRAY":
+                return BufferedImage.TYPE_BYTE_GRAY;
+            default:
+                throw new IllegalArgumentException("Unknown image type: " + name);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.hq.swingmaterialdesign.bench;
+
+import com.hq.swingmaterialdesign.materialdesign.RippleEffect;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks painting a {@link RippleEffect} into an offscreen image. A new
+ * ripple is started at the beginning of each iteration, and iterations are
+ * shorter than a ripple, so this measures the average frame of an ongoing
+ * ripple.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RippleBenchmark {
+
+    @Param({"120x40", "600x200"})
+    public String size;
+
+    @Param({"TYPE_INT_RGB", "TYPE_INT_ARGB_PRE"})
+    public String imageType;
+
+    private JPanel target;
+    private RippleEffect ripple;
+    private BufferedImage canvas;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        int width = Integer.parseInt(size.substring(0, size.indexOf('x')));
+        int height = Integer.parseInt(size.substring(size.indexOf('x') + 1));
+        target = new JPanel();
+        target.setBounds(0, 0, width, height);
+        ripple = RippleEffect.applyTo(target);
+        canvas = new BufferedImage(width, height, ImageTypes.valueOf(imageType));
+        graphics = canvas.createGraphics();
+    }
+
+    @Setup(Level.Iteration)
+    public void startRipple() {
+        ButtonBenchmark.press(target);
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        graphics.setColor(Color.WHITE);
+        ripple.paint(graphics);
+        return canvas;
+    }
+}
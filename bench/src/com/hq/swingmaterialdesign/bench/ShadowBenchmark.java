@@ -0,0 +1,66 @@
+package com.hq.swingmaterialdesign.bench;
+
+import com.hq.swingmaterialdesign.materialdesign.MaterialShadow;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks rendering shadows from scratch with
+ * {@link MaterialShadow#renderShadow(int, int, double, double)} and painting
+ * them through a {@link MaterialShadow}, which goes through the shared caches.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ShadowBenchmark {
+
+    @Param({"120x40", "400x300", "1920x1080"})
+    public String size;
+
+    @Param({"2", "12"})
+    public double borderRadius;
+
+    @Param({"0.5", "1", "2"})
+    public double elevation;
+
+    @Param({"TYPE_INT_RGB", "TYPE_INT_ARGB_PRE"})
+    public String imageType;
+
+    private int width;
+    private int height;
+    private MaterialShadow shadow;
+    private BufferedImage canvas;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        width = Integer.parseInt(size.substring(0, size.indexOf('x')));
+        height = Integer.parseInt(size.substring(size.indexOf('x') + 1));
+        shadow = new MaterialShadow();
+        canvas = new BufferedImage(width, height, ImageTypes.valueOf(imageType));
+        graphics = canvas.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage renderShadow() {
+        return MaterialShadow.renderShadow(width, height, elevation, borderRadius);
+    }
+
+    @Benchmark
+    public BufferedImage paintShadow() {
+        shadow.paint(graphics, width, height, borderRadius, elevation);
+        return canvas;
+    }
+}
@@ -18,6 +18,7 @@ public class ElevationEffect {
     protected double level;
     protected int borderRadius;
     private final Animator animator;
+    private final RoundRectangle2D.Float flatShape = new RoundRectangle2D.Float();
     private double startLevel;
     private double targetLevel;
 
@@ -115,10 +116,11 @@ public class ElevationEffect {
         g2.setBackground(target.getParent().getBackground());
         g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1.0f));
         if (target instanceof MaterialButton && (((MaterialButton) target).getType() == MaterialButton.Type.FLAT)) {
-            g2.setColor(MaterialUtils.brighten(target.getBackground(), (int) (((66.0 / (1 + Math.exp(-2.0 * level))) - 33.0))));
-            g2.fill(new RoundRectangle2D.Float(0, 0, target.getWidth(), target.getHeight(), borderRadius, borderRadius));
+            g2.setColor(MaterialUtils.getColor(MaterialUtils.brighten(target.getBackground().getRGB(), (int) (((66.0 / (1 + Math.exp(-2.0 * level))) - 33.0)))));
+            flatShape.setRoundRect(0, 0, target.getWidth(), target.getHeight(), borderRadius, borderRadius);
+            g2.fill(flatShape);
         } else {
-            g.drawImage(shadow.render(target.getWidth(), target.getHeight(), borderRadius, level), 0, 0, null);
+            shadow.paint(g2, target.getWidth(), target.getHeight(), borderRadius, level, animator.isRunning());
         }
     }
 
@@ -1,10 +1,200 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.WritableRaster;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+/**
+ * A fast approximation of a gaussian blur, made of successive box blurs.
+ * <p>
+ * Images of type {@link BufferedImage#TYPE_4BYTE_ABGR},
+ * {@link BufferedImage#TYPE_INT_ARGB} and {@link BufferedImage#TYPE_INT_RGB}
+ * are blurred straight from the samples of their raster, without any color
+ * model conversion, using scratch buffers that are reused by each thread, so
+ * blurring doesn't allocate once they are big enough. Any other image type
+ * goes through {@link BufferedImage#getRGB(int, int)} and
+ * {@link BufferedImage#setRGB(int, int, int)}, which both paths match.
+ * Gray images take the second path, so they keep being blurred in sRGB, while
+ * {@link #blurAlpha(BufferedImage, double, int)} blurs the raw samples of an
+ * 8-bit mask.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
 public class FastGaussianBlur {
 
+    /**
+     * The default minimum amount of pixels for a blur to be run in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256 * 256;
+
+    private static final int PARALLEL_GRAIN = 16 * 1024;
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private static volatile ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+
+    private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<Scratch>() {
+        @Override
+        protected Scratch initialValue() {
+            return new Scratch();
+        }
+    };
+
+    /**
+     * Gets the minimum amount of pixels an image must have for its blur to be
+     * split across the threads of the parallel pool.
+     *
+     * @return the parallel threshold, in pixels
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the minimum amount of pixels an image must have for its blur to be
+     * split across the threads of the parallel pool. Rows and columns are
+     * blurred independently, so the results are the same as a serial blur.
+     *
+     * @param pixels the parallel threshold, in pixels, or
+     * {@link Integer#MAX_VALUE} to always blur in the calling thread
+     */
+    public static void setParallelThreshold(int pixels) {
+        parallelThreshold = pixels;
+    }
+
+    /**
+     * Sets the pool running parallel blurs. The common pool is used by
+     * default.
+     *
+     * @param pool the pool running parallel blurs
+     */
+    public static void setParallelPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("pool");
+        }
+        parallelPool = pool;
+    }
+
+    /**
+     * Blurs an image in place. The blur is made of {@code n} successive box
+     * blurs whose sizes are chosen so that, together, they approximate a
+     * gaussian blur of the given radius. Each pass costs the same, so the time
+     * taken grows linearly with {@code n}, while the approximation gets closer
+     * to a true gaussian:
+     * <table summary="Quality and speed per number of passes">
+     * <tr><th>n</th><th>kernel</th><th>quality</th><th>time</th></tr>
+     * <tr><td>1</td><td>box</td><td>blocky, visible edges</td><td>1x</td></tr>
+     * <tr><td>2</td><td>triangle</td><td>good enough for moving
+     * content</td><td>2x</td></tr>
+     * <tr><td>3</td><td>piecewise quadratic</td><td>within about 3% of a
+     * gaussian, the default for shadows</td><td>3x</td></tr>
+     * <tr><td>4+</td><td>piecewise cubic and up</td><td>indistinguishable
+     * from a gaussian</td><td>n x</td></tr>
+     * </table>
+     *
+     * @param image the image to blur
+     * @param radius the radius (standard deviation) of the blur
+     * @param n the number of box passes, at least 1
+     * @throws IllegalArgumentException if {@code n} is lower than 1
+     */
     public static void blur(BufferedImage image, final double radius, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("At least one pass is needed: " + n);
+        }
+        switch (image.getType()) {
+            case BufferedImage.TYPE_4BYTE_ABGR:
+                blurBytes(image, radius, n, 4);
+                break;
+            case BufferedImage.TYPE_INT_ARGB:
+                blurInts(image, radius, n, 4);
+                break;
+            case BufferedImage.TYPE_INT_RGB:
+                blurInts(image, radius, n, 3);
+                break;
+            default:
+                blurRGB(image, radius, n);
+                break;
+        }
+    }
+
+    /**
+     * Blurs a single 8-bit coverage plane, such as an alpha mask. This takes a
+     * quarter of the work and memory needed to blur a four-channel image.
+     *
+     * @param mask an image whose raster has a single band of bytes, like a
+     * {@link BufferedImage#TYPE_BYTE_GRAY} image
+     * @param radius the radius of the blur
+     * @param n the number of box passes, at least 1
+     * @throws IllegalArgumentException if the image isn't an 8-bit mask or
+     * {@code n} is lower than 1
+     * @see #blur(BufferedImage, double, int)
+     */
+    public static void blurAlpha(BufferedImage mask, final double radius, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("At least one pass is needed: " + n);
+        }
+        WritableRaster raster = mask.getRaster();
+        if (raster.getNumBands() != 1 || raster.getTransferType() != DataBuffer.TYPE_BYTE) {
+            throw new IllegalArgumentException("Not an 8-bit mask: " + mask);
+        }
+        blurBytes(mask, radius, n, 1);
+    }
+
+    /**
+     * Blurs an image whose raster holds one byte per sample, blurring the
+     * first {@code bands} samples of each pixel.
+     */
+    private static void blurBytes(BufferedImage image, double radius, int n, int bands) {
+        final int w = image.getWidth();
+        final int h = image.getHeight();
+        final int size = w * h;
+        Scratch scratch = SCRATCH.get().ensureCapacity(size, n);
+        byte[] pixels = scratch.bytes(size * bands);
+        WritableRaster raster = image.getRaster();
+        raster.getDataElements(0, 0, w, h, pixels);
+        int[] src = scratch.src;
+        int[] dst = scratch.dst;
+        for (int band = 0; band < bands; band++) {
+            for (int i = 0, p = band; i < size; i++, p += bands) {
+                src[i] = pixels[p] & 0xff;
+            }
+            gaussBlur_4(src, dst, w, h, radius, n, scratch.boxes);
+            for (int i = 0, p = band; i < size; i++, p += bands) {
+                pixels[p] = (byte) dst[i];
+            }
+        }
+        raster.setDataElements(0, 0, w, h, pixels);
+    }
+
+    /**
+     * Blurs an image whose raster holds one packed int per pixel, blurring
+     * the lowest {@code channels} bytes of each pixel.
+     */
+    private static void blurInts(BufferedImage image, double radius, int n, int channels) {
+        final int w = image.getWidth();
+        final int h = image.getHeight();
+        final int size = w * h;
+        Scratch scratch = SCRATCH.get().ensureCapacity(size, n);
+        int[] pixels = scratch.ints(size);
+        WritableRaster raster = image.getRaster();
+        raster.getDataElements(0, 0, w, h, pixels);
+        int[] src = scratch.src;
+        int[] dst = scratch.dst;
+        for (int channel = 0; channel < channels; channel++) {
+            int shift = channel * 8;
+            int mask = ~(0xff << shift);
+            for (int i = 0; i < size; i++) {
+                src[i] = (pixels[i] >> shift) & 0xff;
+            }
+            gaussBlur_4(src, dst, w, h, radius, n, scratch.boxes);
+            for (int i = 0; i < size; i++) {
+                pixels[i] = (pixels[i] & mask) | dst[i] << shift;
+            }
+        }
+        raster.setDataElements(0, 0, w, h, pixels);
+    }
+
+    private static void blurRGB(BufferedImage image, final double radius, int n) {
         final int w = image.getWidth();
         final int h = image.getHeight();
         final int[] pixels = new int[w * h];
@@ -16,7 +206,7 @@ public class FastGaussianBlur {
             for (int i = 0; i < w * h; i++) {
                 red[i] = (pixels[i] >> (channel * 8)) & 0xff;
             }
-            gaussBlur_4(red, blurRed, w, h, radius, n);
+            gaussBlur_4(red, blurRed, w, h, radius, n, new int[n]);
             channels[channel] = blurRed;
         }
 
@@ -27,7 +217,22 @@ public class FastGaussianBlur {
         image.setRGB(0, 0, w, h, pixels, 0, w);
     }
 
-    private static int[] boxesForGauss(double sigma, int n) {// standard deviation, number of boxes
+    /**
+     * Gets how far, in pixels, the blur spreads the value of a single pixel.
+     *
+     * @param radius the radius of the blur
+     * @param n the number of box passes
+     * @return the reach of the blur, in pixels
+     */
+    static int reach(double radius, int n) {
+        int reach = 0;
+        for (int box : boxesForGauss(radius, n, new int[n])) {
+            reach += (box - 1) / 2;
+        }
+        return reach;
+    }
+
+    private static int[] boxesForGauss(double sigma, int n, int[] sizes) {// standard deviation, number of boxes
         double wIdeal = Math.sqrt((12 * sigma * sigma / n) + 1);  // Ideal averaging filter width
         int wl = (int) Math.floor(wIdeal);
         if (wl % 2 == 0) {
@@ -38,29 +243,41 @@ public class FastGaussianBlur {
         double mIdeal = (12 * sigma * sigma - n * wl * wl - 4 * n * wl - 3 * n) / (-4 * wl - 4);
         int m = (int) Math.round(mIdeal);
 
-        int[] sizes = new int[n];
         for (int i = 0; i < n; i++) {
             sizes[i] = i < m ? wl : wu;
         }
         return sizes;
     }
 
-    private static void gaussBlur_4(int[] scl, int[] tcl, int w, int h, double r, int n) {
-        int[] bxs = boxesForGauss(r, n);
-        boxBlur_4(scl, tcl, w, h, (bxs[0] - 1) / 2);
-        boxBlur_4(tcl, scl, w, h, (bxs[1] - 1) / 2);
-        boxBlur_4(scl, tcl, w, h, (bxs[2] - 1) / 2);
+    private static void gaussBlur_4(int[] scl, int[] tcl, int w, int h, double r, int n, int[] boxes) {
+        int[] bxs = boxesForGauss(r, n, boxes);
+        int[] src = scl;
+        int[] dst = tcl;
+        for (int i = 0; i < n; i++) {
+            boxBlur_4(src, dst, w, h, (bxs[i] - 1) / 2);
+            int[] blurred = dst;
+            dst = src;
+            src = blurred;
+        }
+        if (src != tcl) {
+            System.arraycopy(src, 0, tcl, 0, w * h);
+        }
     }
 
     private static void boxBlur_4(int[] scl, int[] tcl, int w, int h, double r) {
-        System.arraycopy(scl, 0, tcl, 0, scl.length);
-        boxBlurH_4(tcl, scl, w, h, r);
-        boxBlurT_4(scl, tcl, w, h, r);
+        System.arraycopy(scl, 0, tcl, 0, w * h);
+        if (w * h >= parallelThreshold && parallelPool.getParallelism() > 1) {
+            parallelPool.invoke(new BoxBlurTask(true, tcl, scl, w, h, r, 0, h));
+            parallelPool.invoke(new BoxBlurTask(false, scl, tcl, w, h, r, 0, w));
+        } else {
+            boxBlurH_4(tcl, scl, w, h, r, 0, h);
+            boxBlurT_4(scl, tcl, w, h, r, 0, w);
+        }
     }
 
-    private static void boxBlurH_4(int[] scl, int[] tcl, int w, int h, double r) {
+    private static void boxBlurH_4(int[] scl, int[] tcl, int w, int h, double r, int fromRow, int toRow) {
         double iarr = 1.0 / (r + r + 1);
-        for (int i = 0; i < h; i++) {
+        for (int i = fromRow; i < toRow; i++) {
             int ti = i * w;
             int li = ti;
             int ri = (int) (ti + r);
@@ -85,9 +302,9 @@ public class FastGaussianBlur {
         }
     }
 
-    private static void boxBlurT_4(int[] scl, int[] tcl, int w, int h, double r) {
+    private static void boxBlurT_4(int[] scl, int[] tcl, int w, int h, double r, int fromColumn, int toColumn) {
         double iarr = 1.0 / (r + r + 1);
-        for (int i = 0; i < w; i++) {
+        for (int i = fromColumn; i < toColumn; i++) {
             int ti = i;
             int li = ti;
             int ri = (int) (ti + r * w);
@@ -118,4 +335,85 @@ public class FastGaussianBlur {
             }
         }
     }
+
+    /**
+     * A horizontal or vertical box blur pass over a range of rows or columns,
+     * split in halves until each part is small enough for a single thread.
+     */
+    private static final class BoxBlurTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean horizontal;
+        private final int[] scl;
+        private final int[] tcl;
+        private final int w;
+        private final int h;
+        private final double r;
+        private final int from;
+        private final int to;
+
+        BoxBlurTask(boolean horizontal, int[] scl, int[] tcl, int w, int h, double r, int from, int to) {
+            this.horizontal = horizontal;
+            this.scl = scl;
+            this.tcl = tcl;
+            this.w = w;
+            this.h = h;
+            this.r = r;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int lines = to - from;
+            int lineLength = horizontal ? w : h;
+            if (lines > 1 && (long) lines * lineLength > PARALLEL_GRAIN) {
+                int middle = from + lines / 2;
+                invokeAll(new BoxBlurTask(horizontal, scl, tcl, w, h, r, from, middle),
+                        new BoxBlurTask(horizontal, scl, tcl, w, h, r, middle, to));
+            } else if (horizontal) {
+                boxBlurH_4(scl, tcl, w, h, r, from, to);
+            } else {
+                boxBlurT_4(scl, tcl, w, h, r, from, to);
+            }
+        }
+    }
+
+    /**
+     * Buffers reused by all the blurs run on the same thread.
+     */
+    private static final class Scratch {
+
+        private int[] src = new int[0];
+        private int[] dst = new int[0];
+        private int[] boxes = new int[0];
+        private byte[] bytes = new byte[0];
+        private int[] ints = new int[0];
+
+        Scratch ensureCapacity(int size, int n) {
+            if (src.length < size) {
+                src = new int[size];
+                dst = new int[size];
+            }
+            if (boxes.length < n) {
+                boxes = new int[n];
+            }
+            return this;
+        }
+
+        byte[] bytes(int size) {
+            if (bytes.length < size) {
+                bytes = new byte[size];
+            }
+            return bytes;
+        }
+
+        int[] ints(int size) {
+            if (ints.length < size) {
+                ints = new int[size];
+            }
+            return ints;
+        }
+    }
 }
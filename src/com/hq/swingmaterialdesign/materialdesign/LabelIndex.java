@@ -0,0 +1,282 @@
+package com.hq.swingmaterialdesign.materialdesign;
+
+import java.util.Arrays;
+import javax.swing.ListModel;
+
+/**
+ * A prefix index over the labels of the items of a {@link ListModel}, i.e. the
+ * {@link Object#toString()} of each item. Labels are kept sorted ignoring case
+ * along with the index of their item, so all the items starting with a given
+ * prefix are found with two binary searches. The index follows changes of the
+ * model incrementally: added, removed and changed items are merged into or
+ * taken out of the sorted arrays, without sorting them again.
+ * <p>
+ * Merging an item costs a pass over the arrays, so items appended at the end
+ * of the model, e.g. by filling it one item at a time, are only recorded, and
+ * merged all at once the next time the index is searched. Other changes are
+ * merged as they happen.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+final class LabelIndex {
+
+    private final ListModel<?> model;
+    private String[] labels = new String[16];
+    private int[] indices = new int[16];
+    private int size;
+    /**
+     * Number of items appended to the model after the indexed ones and not
+     * merged yet, i.e. the items from {@link #size} on.
+     */
+    private int pending;
+
+    /**
+     * Creates an index of all the items of the given model. The index must be
+     * told about changes of the model afterwards.
+     *
+     * @param model the indexed model
+     */
+    LabelIndex(ListModel<?> model) {
+        this.model = model;
+        insert(0, model.getSize() - 1, false);
+    }
+
+    /**
+     * Gets the number of indexed items.
+     *
+     * @return the number of items
+     */
+    int size() {
+        merge();
+        return size;
+    }
+
+    /**
+     * Discards the index, and indexes all the items of the model again the
+     * next time it is searched. Changes of the model made in between cost
+     * nothing, e.g. when removing all of its items one at a time.
+     */
+    void reset() {
+        Arrays.fill(labels, 0, size, null);
+        size = 0;
+        pending = model.getSize();
+    }
+
+    /**
+     * Gets the position of the first label starting with the given prefix,
+     * ignoring case, or of the first label after it if there is none.
+     *
+     * @param prefix the prefix of the labels
+     * @return the position of the first match
+     */
+    int lowerBound(String prefix) {
+        merge();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparePrefix(labels[middle], prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the position after the last label starting with the given prefix,
+     * ignoring case.
+     *
+     * @param prefix the prefix of the labels
+     * @return the position after the last match
+     */
+    int upperBound(String prefix) {
+        merge();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparePrefix(labels[middle], prefix) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Gets the index in the model of the item at the given position of this
+     * index.
+     *
+     * @param position the position of the item in this index
+     * @return the index of the item in the model
+     */
+    int indexAt(int position) {
+        merge();
+        return indices[position];
+    }
+
+    /**
+     * Indexes the items added to the model between the given indexes,
+     * inclusive, shifting the items after them.
+     */
+    void intervalAdded(int index0, int index1) {
+        int first = Math.min(index0, index1);
+        int last = Math.max(index0, index1);
+        if (first >= size) {
+            pending += last - first + 1;
+            return;
+        }
+        // the pending items move along with the indexed items after these
+        insert(first, last, true);
+    }
+
+    /**
+     * Removes the items removed from the model between the given indexes,
+     * inclusive, shifting the items after them.
+     */
+    void intervalRemoved(int index0, int index1) {
+        int first = Math.min(index0, index1);
+        int last = Math.max(index0, index1);
+        if (last >= size) {
+            pending -= last - Math.max(first, size) + 1;
+        }
+        if (first < size) {
+            remove(first, last, true);
+        }
+    }
+
+    /**
+     * Indexes again the items changed between the given indexes, inclusive.
+     * Changes of the selection of a combo box model, which have negative
+     * indexes, are ignored.
+     */
+    void contentsChanged(int index0, int index1) {
+        int first = Math.min(index0, index1);
+        int last = Math.max(index0, index1);
+        // pending items are read when they are merged
+        last = Math.min(last, size - 1);
+        if (first < 0 || first > last) {
+            return;
+        }
+        remove(first, last, false);
+        insert(first, last, false);
+    }
+
+    private void merge() {
+        if (pending > 0) {
+            int first = size;
+            int count = pending;
+            pending = 0;
+            insert(first, first + count - 1, false);
+        }
+    }
+
+    private void remove(int first, int last, boolean shift) {
+        int count = last - first + 1;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int index = indices[i];
+            if (index >= first && index <= last) {
+                continue;
+            }
+            labels[kept] = labels[i];
+            indices[kept] = shift && index > last ? index - count : index;
+            kept++;
+        }
+        Arrays.fill(labels, kept, size, null);
+        size = kept;
+    }
+
+    private void insert(int first, int last, boolean shift) {
+        int count = last - first + 1;
+        if (count <= 0) {
+            return;
+        }
+        if (shift) {
+            for (int i = 0; i < size; i++) {
+                if (indices[i] >= first) {
+                    indices[i] += count;
+                }
+            }
+        }
+        // sort the new items on their own, then merge them from the end
+        Entry[] added = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            Object item = model.getElementAt(first + i);
+            added[i] = new Entry(item != null ? item.toString() : "", first + i);
+        }
+        Arrays.sort(added);
+        ensureCapacity(size + count);
+        int target = size + count - 1;
+        int existing = size - 1;
+        for (int next = count - 1; next >= 0; target--) {
+            if (existing >= 0 && compare(labels[existing], indices[existing], added[next]) > 0) {
+                labels[target] = labels[existing];
+                indices[target] = indices[existing];
+                existing--;
+            } else {
+                labels[target] = added[next].label;
+                indices[target] = added[next].index;
+                next--;
+            }
+        }
+        size += count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > labels.length) {
+            int newLength = Math.max(capacity, labels.length * 2);
+            labels = Arrays.copyOf(labels, newLength);
+            indices = Arrays.copyOf(indices, newLength);
+        }
+    }
+
+    private static int compare(String label, int index, Entry entry) {
+        int comparison = String.CASE_INSENSITIVE_ORDER.compare(label, entry.label);
+        return comparison != 0 ? comparison : Integer.compare(index, entry.index);
+    }
+
+    /**
+     * Compares the beginning of a label with a prefix, ignoring case like
+     * {@link String#CASE_INSENSITIVE_ORDER}, so labels starting with the
+     * prefix compare as equal to it.
+     */
+    private static int comparePrefix(String label, String prefix) {
+        int length = Math.min(label.length(), prefix.length());
+        for (int i = 0; i < length; i++) {
+            char c1 = label.charAt(i);
+            char c2 = prefix.charAt(i);
+            if (c1 != c2) {
+                c1 = Character.toUpperCase(c1);
+                c2 = Character.toUpperCase(c2);
+                if (c1 != c2) {
+                    c1 = Character.toLowerCase(c1);
+                    c2 = Character.toLowerCase(c2);
+                    if (c1 != c2) {
+                        return c1 - c2;
+                    }
+                }
+            }
+        }
+        return label.length() < prefix.length() ? -1 : 0;
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        private final String label;
+        private final int index;
+
+        Entry(String label, int index) {
+            this.label = label;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return compare(label, index, other);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
-import com.hq.swingmaterialdesign.materialdesign.resource.MaterialColor;
 import java.awt.Color;
 import java.awt.Cursor;
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
@@ -31,6 +31,24 @@ public class MaterialButton extends JButton {
     private Cursor cursor = super.getCursor();
     private int borderRadius = 2;
 
+    // kept between paints, see updatePaintCache
+    private final RoundRectangle2D.Float backgroundShape = new RoundRectangle2D.Float();
+    private final RoundRectangle2D.Float disabledBackgroundShape = new RoundRectangle2D.Float();
+    private RoundRectangle2D.Float rippleClip;
+    private int paintedWidth = -1;
+    private int paintedHeight = -1;
+    private Type paintedType;
+    private int paintedBorderRadius;
+    private String paintedText;
+    private Font paintedFont;
+    private String label;
+    private int labelX;
+    private int labelY;
+    private Color paintedBackground;
+    private Color disabledBackground;
+    private Color paintedForeground;
+    private Color disabledForeground;
+
     /**
      * Creates a new button.
      */
@@ -115,8 +133,8 @@ public class MaterialButton extends JButton {
     @Override
     public void setBackground(Color bg) {
         super.setBackground(bg);
-        setForeground(MaterialUtils.isDark(bg) ? MaterialColor.WHITE : MaterialColor.BLACK);
-        setRippleColor(MaterialUtils.isDark(bg) ? MaterialColor.WHITE : MaterialUtils.darken(MaterialUtils.darken(bg)));
+        setForeground(MaterialUtils.isDark(bg) ? Color.WHITE : Color.BLACK);
+        setRippleColor(MaterialUtils.isDark(bg) ? Color.WHITE : MaterialUtils.darken(MaterialUtils.darken(bg)));
     }
 
     /**
@@ -195,56 +213,88 @@ public class MaterialButton extends JButton {
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        updatePaintCache(g2);
 
         if ((type != Type.FLAT) && isEnabled()) {
             elevation.paint(g);
             g2.translate(MaterialShadow.OFFSET_LEFT, MaterialShadow.OFFSET_TOP);
         }
 
-        int offset_lr;
-        int offset_td;
-        if (type == Type.FLAT) {
-            offset_td = 0;
-            offset_lr = 0;
-        } else {
-            offset_td = MaterialShadow.OFFSET_TOP + MaterialShadow.OFFSET_BOTTOM;
-            offset_lr = MaterialShadow.OFFSET_LEFT + MaterialShadow.OFFSET_RIGHT;
-        }
-
         if (isEnabled()) {
             g2.setColor(getBackground());
-            g2.fill(new RoundRectangle2D.Float(0, 0, getWidth() - offset_lr, getHeight() - offset_td, borderRadius, borderRadius));
-            g2.setColor(new Color(rippleColor.getRed() / 255f, rippleColor.getBlue() / 255f, rippleColor.getBlue() / 255f, 0.12f));
+            g2.fill(backgroundShape);
             if (type == Type.FLAT) {
                 elevation.paint(g);
-                //g2.setColor(MaterialUtils.brighten(getBackground()));
-                //g2.fill(new RoundRectangle2D.Float(0, 0, getWidth() - offset_lr, getHeight() - offset_td, borderRadius, borderRadius));
             }
         } else {
-            Color bg = getBackground();
-            g2.setColor(new Color(bg.getRed() / 255f, bg.getGreen() / 255f, bg.getBlue() / 255f, 0.6f));
-            g2.fill(new RoundRectangle2D.Float(0, 0, getWidth() - offset_lr, getHeight() - offset_td, borderRadius * 2, borderRadius * 2));
+            g2.setColor(disabledBackground);
+            g2.fill(disabledBackgroundShape);
         }
 
-        FontMetrics metrics = g.getFontMetrics(getFont());
-        int x = (getWidth() - offset_lr - metrics.stringWidth(getText().toUpperCase())) / 2;
-        int y = (getHeight() - offset_td - metrics.getHeight()) / 2 + metrics.getAscent();
         g2.setFont(getFont());
-        if (isEnabled()) {
-            g2.setColor(getForeground());
-        } else {
-            Color fg = getForeground();
-            g2.setColor(new Color(fg.getRed() / 255f, fg.getGreen() / 255f, fg.getBlue() / 255f, 0.6f));
-        }
-        g2.drawString(getText().toUpperCase(), x, y);
+        g2.setColor(isEnabled() ? getForeground() : disabledForeground);
+        g2.drawString(label, labelX, labelY);
 
         if (isEnabled()) {
-            g2.setClip(new RoundRectangle2D.Float(0, 0, getWidth() - offset_lr, getHeight() - offset_td, Math.max(borderRadius * 2 - 4, 0), Math.max(borderRadius * 2 - 4, 0)));
+            g2.clip(rippleClip);
             g2.setColor(rippleColor);
             ripple.paint(g2);
         }
     }
 
+    /**
+     * Updates the shapes, colors and label layout used for painting this
+     * button. These only change when the text, font, size, type, border
+     * radius or colors of this button do, so they are kept between paints.
+     */
+    private void updatePaintCache(Graphics2D g2) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width != paintedWidth || height != paintedHeight || type != paintedType || borderRadius != paintedBorderRadius) {
+            int offset_lr;
+            int offset_td;
+            if (type == Type.FLAT) {
+                offset_td = 0;
+                offset_lr = 0;
+                ripple.setPaintOffset(0, 0);
+            } else {
+                offset_td = MaterialShadow.OFFSET_TOP + MaterialShadow.OFFSET_BOTTOM;
+                offset_lr = MaterialShadow.OFFSET_LEFT + MaterialShadow.OFFSET_RIGHT;
+                // the ripple is painted after translating past the shadow
+                ripple.setPaintOffset(MaterialShadow.OFFSET_LEFT, MaterialShadow.OFFSET_TOP);
+            }
+            float clipRadius = Math.max(borderRadius * 2 - 4, 0);
+            backgroundShape.setRoundRect(0, 0, width - offset_lr, height - offset_td, borderRadius, borderRadius);
+            disabledBackgroundShape.setRoundRect(0, 0, width - offset_lr, height - offset_td, borderRadius * 2, borderRadius * 2);
+            rippleClip = new RoundRectangle2D.Float(0, 0, width - offset_lr, height - offset_td, clipRadius, clipRadius);
+            paintedWidth = width;
+            paintedHeight = height;
+            paintedType = type;
+            paintedBorderRadius = borderRadius;
+            paintedFont = null;
+        }
+        String text = getText();
+        Font font = getFont();
+        if (text != paintedText || font != paintedFont) {
+            label = text.toUpperCase();
+            FontMetrics metrics = g2.getFontMetrics(font);
+            labelX = ((int) backgroundShape.width - metrics.stringWidth(label)) / 2;
+            labelY = ((int) backgroundShape.height - metrics.getHeight()) / 2 + metrics.getAscent();
+            paintedText = text;
+            paintedFont = font;
+        }
+        Color bg = getBackground();
+        if (bg != paintedBackground) {
+            disabledBackground = new Color(bg.getRed() / 255f, bg.getGreen() / 255f, bg.getBlue() / 255f, 0.6f);
+            paintedBackground = bg;
+        }
+        Color fg = getForeground();
+        if (fg != paintedForeground) {
+            disabledForeground = new Color(fg.getRed() / 255f, fg.getGreen() / 255f, fg.getBlue() / 255f, 0.6f);
+            paintedForeground = fg;
+        }
+    }
+
     @Override
     protected void paintBorder(Graphics g) {
         //intentionally left blank
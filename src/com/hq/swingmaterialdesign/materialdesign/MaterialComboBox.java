@@ -1,11 +1,17 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
+import com.hq.swingmaterialdesign.materialdesign.resource.FontCache;
 import com.hq.swingmaterialdesign.materialdesign.resource.MaterialColor;
+import com.hq.swingmaterialdesign.materialdesign.resource.MaterialPalette;
 import static com.hq.swingmaterialdesign.materialdesign.MaterialTextField.HINT_OPACITY_MASK;
 import static com.hq.swingmaterialdesign.materialdesign.MaterialTextField.LINE_OPACITY_MASK;
 import com.hq.swingmaterialdesign.materialdesign.resource.Roboto;
 import javax.swing.*;
 import javax.swing.border.MatteBorder;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
 import javax.swing.plaf.basic.BasicComboBoxUI;
 import javax.swing.plaf.basic.BasicComboPopup;
 import javax.swing.plaf.basic.BasicScrollBarUI;
@@ -15,15 +21,31 @@ import java.awt.event.FocusEvent;
 
 /**
  * A Material Design combo box.
- *
+ * <p>
+ * Combo boxes with very large models should be made virtualized, see
+ * {@link #setVirtualized(boolean)}, so their size and the size of their popup
+ * don't depend on the number of items. Typing on a filterable combo box, see
+ * {@link #setFilterable(boolean)}, narrows its popup to the matching items.
+ * Items of large data sets can be loaded on demand, in the background, with a
+ * {@link PagedComboBoxModel}.
  *
  * @author bilux (i.bilux@gmail.com)
  */
 public class MaterialComboBox<T> extends JComboBox<T> {
 
+    /**
+     * Height of the cells of the popup list, in pixels.
+     */
+    public static final int CELL_HEIGHT = 32;
+
     private MaterialLine line = new MaterialLine(this);
-    private Color accentColor = MaterialColor.PINK_500;
+    private Color accentColor = MaterialPalette.getColor(MaterialPalette.PINK, 500);
     private String hint = "";
+    private boolean virtualized = false;
+    private int selectedIndexHint = -1;
+    private boolean filterable = false;
+    private boolean refreshingPopup = false;
+    private KeySelectionManager defaultKeySelectionManager;
 
     public MaterialComboBox() {
         setModel(new DefaultComboBoxModel<>());
@@ -36,20 +58,48 @@ public class MaterialComboBox<T> extends JComboBox<T> {
                 return popupBox;
             }
 
+            @Override
+            protected Dimension getDisplaySize() {
+                if (virtualized) {
+                    // the renderer gives every item the same size anyway
+                    return new Dimension(0, CELL_HEIGHT);
+                }
+                return super.getDisplaySize();
+            }
+
             @Override
             protected JButton createArrowButton() {
+                Color transparent = MaterialUtils.getColor(MaterialPalette.TRANSPARENT_ARGB);
                 JButton button = new javax.swing.plaf.basic.BasicArrowButton(
                         javax.swing.plaf.basic.BasicArrowButton.SOUTH,
-                        MaterialColor.TRANSPARENT,
-                        MaterialColor.TRANSPARENT,
-                        MaterialColor.TRANSPARENT,
-                        MaterialColor.TRANSPARENT);
+                        transparent,
+                        transparent,
+                        transparent,
+                        transparent);
                 button.setName("ComboBox.arrowButton");
                 return button;
             }
         });
         setOpaque(false);
-        setBackground(MaterialColor.WHITE);
+        setBackground(Color.WHITE);
+        addPopupMenuListener(new PopupMenuListener() {
+            @Override
+            public void popupMenuWillBecomeVisible(PopupMenuEvent e) {
+
+            }
+
+            @Override
+            public void popupMenuWillBecomeInvisible(PopupMenuEvent e) {
+                if (dataModel instanceof FilterModel && !refreshingPopup) {
+                    ((FilterModel) dataModel).setFilter("");
+                }
+            }
+
+            @Override
+            public void popupMenuCanceled(PopupMenuEvent e) {
+
+            }
+        });
     }
 
     /**
@@ -94,6 +144,222 @@ public class MaterialComboBox<T> extends JComboBox<T> {
         repaint();
     }
 
+    /**
+     * Checks whether this combo box is virtualized.
+     *
+     * @return {@code true} if this combo box is virtualized
+     * @see #setVirtualized(boolean)
+     */
+    public boolean isVirtualized() {
+        return virtualized;
+    }
+
+    /**
+     * Makes this combo box virtualized, or not. By default, a combo box and
+     * its popup measure every item of the model to compute their size, which
+     * blocks the EDT for a long time with models of many thousands of items.
+     * A virtualized combo box gives all the cells of its popup a fixed height
+     * of {@link #CELL_HEIGHT} pixels and the width of the popup, so only the
+     * cells within the visible part of the popup are ever rendered, and
+     * opening it takes the same time regardless of the size of the model.
+     * Disabled by default.
+     *
+     * @param virtualized {@code true} to make this combo box virtualized
+     */
+    public void setVirtualized(boolean virtualized) {
+        boolean oldValue = this.virtualized;
+        this.virtualized = virtualized;
+        firePropertyChange("virtualized", oldValue, virtualized);
+        revalidate();
+    }
+
+    /**
+     * Checks whether this combo box is filterable.
+     *
+     * @return {@code true} if this combo box is filterable
+     * @see #setFilterable(boolean)
+     */
+    public boolean isFilterable() {
+        return filterable;
+    }
+
+    /**
+     * Makes this combo box filterable, or not. Instead of jumping to the next
+     * item starting with each typed character, a filterable combo box opens
+     * its popup and narrows it to the items whose label starts with all the
+     * characters typed so far, ignoring case, in alphabetical order. Backspace
+     * removes the last typed character, and the filter is cleared when the
+     * popup is closed. Characters that would leave no items are ignored.
+     * <p>
+     * The model is wrapped in a {@link FilterModel}, which keeps a prefix
+     * index of the labels of the items up to date as the model changes, so
+     * each key stroke takes a couple of binary searches even with millions of
+     * items. Making a combo box filterable sorts the labels of all its items.
+     * Items added at the end of the model afterwards are sorted and merged
+     * into the index all at once, when the next character is typed, but
+     * inserting, removing or changing any other item costs a pass over the
+     * whole index, so a large model should rather be filled before this combo
+     * box is made filterable, or replaced as a whole.
+     * {@link #getModel()} returns the wrapper while this combo box is
+     * filterable, and {@link FilterModel#getSource()} the original model.
+     * Disabled by default.
+     *
+     * @param filterable {@code true} to make this combo box filterable
+     */
+    public void setFilterable(boolean filterable) {
+        if (this.filterable == filterable) {
+            return;
+        }
+        this.filterable = filterable;
+        if (filterable) {
+            defaultKeySelectionManager = getKeySelectionManager();
+            setKeySelectionManager(new FilterKeySelectionManager());
+            setModel(dataModel);
+        } else {
+            setKeySelectionManager(defaultKeySelectionManager);
+            defaultKeySelectionManager = null;
+            if (dataModel instanceof FilterModel) {
+                setModel(((FilterModel<T>) dataModel).getSource());
+            }
+        }
+    }
+
+    /**
+     * Sets the model of this combo box. Models of filterable combo boxes are
+     * wrapped in a {@link FilterModel}, except for a
+     * {@link PagedComboBoxModel}, which can't be indexed without loading all
+     * of it, and which makes this combo box virtualized. A
+     * {@link FilterModel} replaced by another model is disposed, whatever the
+     * type of the new model.
+     *
+     * @param aModel the model
+     */
+    @Override
+    public void setModel(ComboBoxModel<T> aModel) {
+        ComboBoxModel<T> previous = dataModel;
+        if (aModel instanceof PagedComboBoxModel) {
+            setVirtualized(true);
+        } else if (filterable && !(aModel instanceof FilterModel)) {
+            aModel = new FilterModel<>(aModel);
+        }
+        super.setModel(aModel);
+        if (previous instanceof FilterModel && previous != aModel) {
+            ((FilterModel<?>) previous).dispose();
+        }
+    }
+
+    /**
+     * Removes all the items. {@link JComboBox} removes the items of models
+     * other than a {@link DefaultComboBoxModel} one at a time, and only the
+     * shown ones, so a filterable combo box clears its source model instead.
+     */
+    @Override
+    public void removeAllItems() {
+        if (!(dataModel instanceof FilterModel)) {
+            super.removeAllItems();
+            return;
+        }
+        ((FilterModel<?>) dataModel).removeAllElements();
+        selectedItemReminder = null;
+        if (isEditable()) {
+            editor.setItem(null);
+        }
+    }
+
+    /**
+     * Selects the item at the given index. {@link JComboBox} looks for the
+     * item in the whole model before selecting it, which virtualized combo
+     * boxes skip, as the item is known to be there.
+     *
+     * @param anIndex the index of the item to select, or {@code -1} to clear
+     * the selection
+     */
+    @Override
+    public void setSelectedIndex(int anIndex) {
+        if (virtualized && !isEditable() && anIndex >= 0 && anIndex < dataModel.getSize()) {
+            Object item = dataModel.getElementAt(anIndex);
+            if (item == null && dataModel instanceof PagedComboBoxModel) {
+                // a placeholder row, whose item isn't loaded yet
+                return;
+            }
+            selectedIndexHint = anIndex;
+            if (item != null && item.equals(dataModel.getSelectedItem())) {
+                fireActionEvent();
+            } else {
+                // the model notifies this combo box, which fires the events
+                dataModel.setSelectedItem(item);
+            }
+            return;
+        }
+        super.setSelectedIndex(anIndex);
+        selectedIndexHint = anIndex;
+    }
+
+    /**
+     * Selects an item. {@link JComboBox} looks for the item in the whole model
+     * before selecting it, which would load every page of a
+     * {@link PagedComboBoxModel}, so the item is given to such a model as is.
+     *
+     * @param anObject the item to select, or {@code null} to clear the
+     * selection
+     */
+    @Override
+    public void setSelectedItem(Object anObject) {
+        if (!(dataModel instanceof PagedComboBoxModel)) {
+            super.setSelectedItem(anObject);
+            return;
+        }
+        Object selected = dataModel.getSelectedItem();
+        if (anObject == null ? selected == null : anObject.equals(selected)) {
+            fireActionEvent();
+        } else {
+            // the model notifies this combo box, which fires the events
+            dataModel.setSelectedItem(anObject);
+        }
+    }
+
+    /**
+     * Selects the next item starting with the given character. This is
+     * disabled with a {@link PagedComboBoxModel}, as looking for the item
+     * would load every page.
+     *
+     * @param keyChar the typed character
+     * @return {@code true} if an item was selected
+     */
+    @Override
+    public boolean selectWithKeyChar(char keyChar) {
+        if (dataModel instanceof PagedComboBoxModel) {
+            return false;
+        }
+        return super.selectWithKeyChar(keyChar);
+    }
+
+    /**
+     * Gets the index of the selected item. {@link JComboBox} looks for the
+     * selected item in the whole model on each call, and the renderer calls
+     * this for every cell, so the last known index is checked first.
+     *
+     * @return the index of the selected item, or {@code -1} if there is none
+     */
+    @Override
+    public int getSelectedIndex() {
+        if (dataModel instanceof PagedComboBoxModel) {
+            // looking for the item would load every page
+            return ((PagedComboBoxModel<?>) dataModel).getSelectedIndex();
+        }
+        Object selected = dataModel.getSelectedItem();
+        if (selected == null) {
+            return -1;
+        }
+        int hint = selectedIndexHint;
+        if (hint >= 0 && hint < dataModel.getSize() && selected.equals(dataModel.getElementAt(hint))) {
+            return hint;
+        }
+        hint = super.getSelectedIndex();
+        selectedIndexHint = hint;
+        return hint;
+    }
+
     @Override
     protected void processFocusEvent(FocusEvent e) {
         super.processFocusEvent(e);
@@ -111,7 +377,7 @@ public class MaterialComboBox<T> extends JComboBox<T> {
         g2.fillRect(0, 0, getWidth(), getHeight() - 4);
 
         // paint the selected item
-        g.setFont(Roboto.REGULAR.deriveFont(16f));
+        g.setFont(FontCache.derive(Roboto.Face.REGULAR.getFont(), 16f));
         g.setColor(getSelectedItem() == null ? MaterialUtils.applyAlphaMask(getForeground(), HINT_OPACITY_MASK) : getForeground());
         FontMetrics metrics = g.getFontMetrics(g.getFont());
         String text = getSelectedItem() != null ? getSelectedItem().toString() : (hint != null ? hint : "");
@@ -132,12 +398,287 @@ public class MaterialComboBox<T> extends JComboBox<T> {
         g2.fillRect((int) ((getWidth() - line.getWidth()) / 2), getHeight() - 5, (int) line.getWidth(), 2);
     }
 
+    /**
+     * Narrows the filter of the model as characters are typed.
+     */
+    private class FilterKeySelectionManager implements KeySelectionManager {
+
+        @Override
+        @SuppressWarnings("rawtypes") // the parameter is only ComboBoxModel<?> since Java 9
+        public int selectionForKey(char key, ComboBoxModel model) {
+            if (!(model instanceof FilterModel)) {
+                return -1;
+            }
+            FilterModel<?> filterModel = (FilterModel<?>) model;
+            String filter = filterModel.getFilter();
+            if (key == '\b') {
+                if (filter.isEmpty()) {
+                    return -1;
+                }
+                filter = filter.substring(0, filter.length() - 1);
+            } else if (Character.isISOControl(key)) {
+                return -1;
+            } else {
+                filter = filter + key;
+                if (filterModel.countMatches(filter) == 0) {
+                    return -1;
+                }
+            }
+            int shownRows = Math.min(filterModel.getSize(), getMaximumRowCount());
+            filterModel.setFilter(filter);
+            if (isShowing()) {
+                if (!isPopupVisible()) {
+                    setPopupVisible(true);
+                } else if (Math.min(filterModel.getSize(), getMaximumRowCount()) != shownRows) {
+                    // show the popup again, so it fits the matching items
+                    refreshingPopup = true;
+                    setPopupVisible(false);
+                    setPopupVisible(true);
+                    refreshingPopup = false;
+                }
+            }
+            return filter.isEmpty() ? -1 : 0;
+        }
+    }
+
+    /**
+     * A combo box model showing the items of another model whose label, i.e.
+     * their {@link Object#toString()}, starts with a given prefix. The labels
+     * are indexed when the model is created, and the index is updated as the
+     * source model changes. The selected item is the one of the source model.
+     * <p>
+     * Items are added to and removed from the source model, which must be a
+     * {@link MutableComboBoxModel} for that, and indexes given to these
+     * methods are those of the shown items.
+     *
+     * @param <E> the type of the items
+     * @see MaterialComboBox#setFilterable(boolean)
+     */
+    public static class FilterModel<E> extends AbstractListModel<E> implements MutableComboBoxModel<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ComboBoxModel<E> source;
+        private final LabelIndex index;
+        private final ListDataListener sourceListener;
+        private String filter = "";
+        private int first;
+        private int last;
+
+        /**
+         * Creates a new filter model, indexing all the items of the given
+         * model.
+         *
+         * @param source the model to filter
+         */
+        public FilterModel(ComboBoxModel<E> source) {
+            this.source = source;
+            this.index = new LabelIndex(source);
+            this.sourceListener = new ListDataListener() {
+                @Override
+                public void intervalAdded(ListDataEvent e) {
+                    index.intervalAdded(e.getIndex0(), e.getIndex1());
+                    sourceChanged(e);
+                }
+
+                @Override
+                public void intervalRemoved(ListDataEvent e) {
+                    index.intervalRemoved(e.getIndex0(), e.getIndex1());
+                    sourceChanged(e);
+                }
+
+                @Override
+                public void contentsChanged(ListDataEvent e) {
+                    index.contentsChanged(e.getIndex0(), e.getIndex1());
+                    sourceChanged(e);
+                }
+            };
+            source.addListDataListener(sourceListener);
+        }
+
+        /**
+         * Gets the filtered model.
+         *
+         * @return the source model
+         */
+        public ComboBoxModel<E> getSource() {
+            return source;
+        }
+
+        /**
+         * Gets the prefix of the shown items.
+         *
+         * @return the current filter, or an empty string if all the items are
+         * shown
+         */
+        public String getFilter() {
+            return filter;
+        }
+
+        /**
+         * Shows only the items whose label starts with the given prefix,
+         * ignoring case, in alphabetical order. An empty prefix shows all the
+         * items of the source model, in their order.
+         *
+         * @param filter the prefix of the shown items
+         */
+        public void setFilter(String filter) {
+            int oldSize = getSize();
+            this.filter = filter != null ? filter : "";
+            updateRange();
+            fireReplaced(oldSize);
+        }
+
+        /**
+         * Counts the items whose label starts with the given prefix, ignoring
+         * case.
+         *
+         * @param prefix the prefix of the items
+         * @return the number of matching items
+         */
+        public int countMatches(String prefix) {
+            return index.upperBound(prefix) - index.lowerBound(prefix);
+        }
+
+        /**
+         * Removes all the items of the source model, at once if it is a
+         * {@link DefaultComboBoxModel}, or one at a time from the end
+         * otherwise, and clears the filter. The index is discarded rather
+         * than updated for each removed item.
+         *
+         * @throws UnsupportedOperationException if the source model isn't
+         * mutable
+         */
+        public void removeAllElements() {
+            if (source instanceof DefaultComboBoxModel) {
+                ((DefaultComboBoxModel<E>) source).removeAllElements();
+                return;
+            }
+            MutableComboBoxModel<E> mutableSource = getMutableSource();
+            setFilter("");
+            index.reset();
+            for (int i = source.getSize() - 1; i >= 0; i--) {
+                mutableSource.removeElementAt(i);
+            }
+        }
+
+        /**
+         * Stops following the changes of the source model.
+         */
+        public void dispose() {
+            source.removeListDataListener(sourceListener);
+        }
+
+        @Override
+        public int getSize() {
+            return filter.isEmpty() ? source.getSize() : last - first;
+        }
+
+        @Override
+        public E getElementAt(int i) {
+            return source.getElementAt(getSourceIndex(i));
+        }
+
+        @Override
+        public void addElement(E item) {
+            getMutableSource().addElement(item);
+        }
+
+        @Override
+        public void removeElement(Object obj) {
+            getMutableSource().removeElement(obj);
+        }
+
+        /**
+         * Inserts an item into the source model, before the shown item at the
+         * given index. While filtered, the item is then shown in alphabetical
+         * order like the others, if it matches the filter at all.
+         *
+         * @param item the item to insert
+         * @param i the index of the shown item to insert it before, or the
+         * number of shown items to insert it after the last one
+         */
+        @Override
+        public void insertElementAt(E item, int i) {
+            MutableComboBoxModel<E> mutableSource = getMutableSource();
+            mutableSource.insertElementAt(item, i < getSize() ? getSourceIndex(i) : source.getSize());
+        }
+
+        @Override
+        public void removeElementAt(int i) {
+            getMutableSource().removeElementAt(getSourceIndex(i));
+        }
+
+        @Override
+        public void setSelectedItem(Object anItem) {
+            source.setSelectedItem(anItem);
+        }
+
+        @Override
+        public Object getSelectedItem() {
+            return source.getSelectedItem();
+        }
+
+        private int getSourceIndex(int i) {
+            return filter.isEmpty() ? i : index.indexAt(first + i);
+        }
+
+        private MutableComboBoxModel<E> getMutableSource() {
+            if (!(source instanceof MutableComboBoxModel)) {
+                throw new UnsupportedOperationException("The source model isn't mutable");
+            }
+            return (MutableComboBoxModel<E>) source;
+        }
+
+        private void updateRange() {
+            if (!filter.isEmpty()) {
+                first = index.lowerBound(filter);
+                last = index.upperBound(filter);
+            }
+        }
+
+        private void sourceChanged(ListDataEvent e) {
+            if (filter.isEmpty() || e.getIndex0() < 0) {
+                // unfiltered items keep their indexes, and selection changes
+                // don't change any item
+                switch (e.getType()) {
+                    case ListDataEvent.INTERVAL_ADDED:
+                        fireIntervalAdded(this, e.getIndex0(), e.getIndex1());
+                        break;
+                    case ListDataEvent.INTERVAL_REMOVED:
+                        fireIntervalRemoved(this, e.getIndex0(), e.getIndex1());
+                        break;
+                    default:
+                        fireContentsChanged(this, e.getIndex0(), e.getIndex1());
+                        break;
+                }
+                return;
+            }
+            int oldSize = getSize();
+            updateRange();
+            fireReplaced(oldSize);
+        }
+
+        private void fireReplaced(int oldSize) {
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            int newSize = getSize();
+            if (newSize > 0) {
+                fireIntervalAdded(this, 0, newSize - 1);
+            }
+        }
+    }
+
     public static class FieldRenderer<T> extends JComponent implements ListCellRenderer<T> {
 
+        private static final int PLACEHOLDER_OPACITY_MASK = 0x1F000000;
+
         private final MaterialComboBox comboBox;
         private String text;
         private boolean mouseOver = false;
         private boolean selected = false;
+        private boolean placeholder = false;
 
         public FieldRenderer(MaterialComboBox comboBox) {
             this.comboBox = comboBox;
@@ -146,8 +687,13 @@ public class MaterialComboBox<T> extends JComboBox<T> {
         @Override
         public Component getListCellRendererComponent(JList jList, Object o, int index, boolean isSelected, boolean cellHasFocus) {
             text = o != null ? o.toString() : "";
-            setSize(jList.getWidth(), 56);
-            setPreferredSize(new Dimension(jList.getWidth(), 32));
+            placeholder = o == null && jList.getModel() instanceof PagedComboBoxModel
+                    && !((PagedComboBoxModel<?>) jList.getModel()).isLoaded(index);
+            if (!comboBox.isVirtualized()) {
+                // virtualized lists have fixed cells and never measure them
+                setSize(jList.getWidth(), 56);
+                setPreferredSize(new Dimension(jList.getWidth(), CELL_HEIGHT));
+            }
             setOpaque(true);
             mouseOver = isSelected;
             selected = comboBox.getSelectedIndex() == index;
@@ -161,13 +707,22 @@ public class MaterialComboBox<T> extends JComboBox<T> {
             g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
             if (mouseOver) {
-                g.setColor(MaterialUtils.isDark(comboBox.getBackground()) ? MaterialUtils.brighten(comboBox.getBackground()) : MaterialUtils.darken(comboBox.getBackground()));
+                int background = comboBox.getBackground().getRGB();
+                g.setColor(MaterialUtils.getColor(MaterialUtils.isDark(background) ? MaterialUtils.brighten(background) : MaterialUtils.darken(background)));
             } else {
                 g.setColor(comboBox.getBackground());
             }
             g.fillRect(0, 0, getWidth(), getHeight());
 
-            g.setFont(Roboto.REGULAR.deriveFont(15f));
+            if (placeholder) {
+                // a bar standing for the text until the item is loaded
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                g2.setColor(MaterialUtils.applyAlphaMask(comboBox.getForeground(), PLACEHOLDER_OPACITY_MASK));
+                g2.fillRoundRect(24, getHeight() / 2 - 6, Math.max(0, Math.min(160, getWidth() - 48)), 12, 12, 12);
+                return;
+            }
+
+            g.setFont(FontCache.derive(Roboto.Face.REGULAR.getFont(), 15f));
             if (selected) {
                 g2.setColor(comboBox.accentColor);
             } else {
@@ -185,6 +740,8 @@ public class MaterialComboBox<T> extends JComboBox<T> {
             setBackground(combo.getBackground());
             setOpaque(true);
             setBorderPainted(false);
+            updateVirtualization();
+            combo.addPropertyChangeListener("virtualized", e -> updateVirtualization());
         }
 
         @Override
@@ -195,6 +752,27 @@ public class MaterialComboBox<T> extends JComboBox<T> {
             return scrol;
         }
 
+        private void updateVirtualization() {
+            if (comboBox instanceof MaterialComboBox && ((MaterialComboBox) comboBox).isVirtualized()) {
+                // with both fixed, the list never measures its cells, and a
+                // width of one pixel makes it track the width of the viewport
+                list.setFixedCellHeight(CELL_HEIGHT);
+                list.setFixedCellWidth(1);
+            } else {
+                list.setFixedCellHeight(-1);
+                list.setFixedCellWidth(-1);
+            }
+        }
+
+        @Override
+        protected int getPopupHeightForRowCount(int maxRowCount) {
+            if (comboBox instanceof MaterialComboBox && ((MaterialComboBox) comboBox).isVirtualized()) {
+                int rowCount = Math.min(maxRowCount, comboBox.getItemCount());
+                return rowCount > 0 ? rowCount * CELL_HEIGHT : super.getPopupHeightForRowCount(0);
+            }
+            return super.getPopupHeightForRowCount(maxRowCount);
+        }
+
         @Override
         protected Rectangle computePopupBounds(int px, int py, int pw, int ph) {
             return super.computePopupBounds(px, py - 2, (int) Math.max(comboBox.getPreferredSize().getWidth(), pw), ph);
@@ -252,7 +830,7 @@ public class MaterialComboBox<T> extends JComboBox<T> {
                                 RenderingHints.VALUE_ANTIALIAS_ON);
                         boolean isVertical = ScrollBar.this.getOrientation()
                                 == Adjustable.VERTICAL;
-                        g.setColor(MaterialColor.GREY_500);
+                        g.setColor(MaterialPalette.getColor(MaterialPalette.GREY, 500));
                         g.fillRoundRect(thumbBounds.x, thumbBounds.y,
                                 thumbBounds.width, thumbBounds.height,
                                 isVertical ? thumbBounds.width : thumbBounds.height,
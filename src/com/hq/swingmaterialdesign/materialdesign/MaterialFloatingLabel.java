@@ -1,6 +1,7 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
-import com.hq.swingmaterialdesign.materialdesign.resource.MaterialColor;
+import com.hq.swingmaterialdesign.materialdesign.resource.MaterialPalette;
+import com.hq.swingmaterialdesign.materialdesign.resource.FontCache;
 import com.hq.swingmaterialdesign.materialdesign.resource.Roboto;
 import com.hq.swingmaterialdesign.materialdesign.animation.AnimationListener;
 import com.hq.swingmaterialdesign.materialdesign.animation.Animator;
@@ -10,6 +11,10 @@ import java.awt.*;
 
 /**
  * A floating label of a text field.
+ * <p>
+ * The label is either floating, while the field is focused, or resting, and
+ * it only animates when that changes. Calling {@link #update()} in any other
+ * case, e.g. on each key stroke, does nothing.
  *
  * @author bilux (i.bilux@gmail.com)
  */
@@ -21,8 +26,9 @@ public class MaterialFloatingLabel {
     private final Animator animator;
     private Color color;
     private String text;
-    private Color accentColor = MaterialColor.CYAN_500;
-    private double fontCrement;
+    private Color accentColor = MaterialPalette.getColor(MaterialPalette.CYAN, 500);
+    private boolean floating;
+    private double startFontSize;
     private double targetFontSize;
     private double fontSize;
 
@@ -38,7 +44,7 @@ public class MaterialFloatingLabel {
 
             @Override
             public void onAnimation(double percent) {
-                fontSize += fontCrement;
+                fontSize = startFontSize + (targetFontSize - startFontSize) * percent;
                 target.repaint();
             }
 
@@ -50,7 +56,6 @@ public class MaterialFloatingLabel {
 
             @Override
             public void onStop() {
-                fontSize = targetFontSize;
                 target.repaint();
             }
         })
@@ -59,14 +64,18 @@ public class MaterialFloatingLabel {
     }
 
     void update() {
-        animator.stop();
-        targetFontSize = target.isFocusOwner() ? 12d : 16d;
-        if (fontSize != targetFontSize) {
-            fontCrement = +(double) (targetFontSize - fontSize) / 100;
-            animator.start();
+        boolean focused = target.isFocusOwner();
+        if (focused == floating) {
+            return;
         }
+        floating = focused;
+        // a reversed animation starts from the current font size
+        animator.stop();
+        targetFontSize = floating ? 12d : 16d;
+        startFontSize = fontSize;
+        animator.start();
 
-        if (target.isFocusOwner()) {
+        if (floating) {
             color = accentColor;
         } else {
             color = MaterialUtils.applyAlphaMask(target.getForeground(), HINT_OPACITY_MASK);
@@ -74,7 +83,9 @@ public class MaterialFloatingLabel {
     }
 
     public void updateForeground() {
-        color = (MaterialUtils.applyAlphaMask(target.getForeground(), HINT_OPACITY_MASK));
+        if (!floating) {
+            color = (MaterialUtils.applyAlphaMask(target.getForeground(), HINT_OPACITY_MASK));
+        }
     }
 
     public Color getAccent() {
@@ -83,6 +94,9 @@ public class MaterialFloatingLabel {
 
     public void setAccent(Color accentColor) {
         this.accentColor = accentColor;
+        if (floating) {
+            color = accentColor;
+        }
     }
 
     String getText() {
@@ -94,7 +108,7 @@ public class MaterialFloatingLabel {
     }
 
     void paint(Graphics2D g) {
-        g.setFont(Roboto.REGULAR.deriveFont((float) fontSize));
+        g.setFont(FontCache.deriveQuantized(Roboto.Face.REGULAR.getFont(), (float) fontSize));
         g.setColor(color);
         FontMetrics metrics = g.getFontMetrics(g.getFont());
         g.drawString(getText(), 0, metrics.getAscent() + 0);
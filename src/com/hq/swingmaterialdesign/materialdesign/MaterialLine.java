@@ -6,6 +6,12 @@ import javax.swing.*;
 
 /**
  * An animated line that appears below a component when it is focused.
+ * <p>
+ * The line is either shown or hidden, following the focus of its component,
+ * and it only animates when that changes. Calling {@link #update()} while the
+ * line is already shown, or already growing, does nothing. While it animates,
+ * only the strip it is painted in is repainted, i.e. the 2 pixels above the
+ * last 3 rows of its component.
  *
  * @author bilux (i.bilux@gmail.com)
  */
@@ -13,9 +19,9 @@ public class MaterialLine {
 
     private final JComponent target;
     private final Animator animator;
-    private double width;
-    private double targetWidth;
-    private double widthCrement;
+    private boolean shown;
+    private double progress;
+    private double startProgress;
 
     public MaterialLine(JComponent target) {
         this.target = target;
@@ -27,39 +33,54 @@ public class MaterialLine {
 
             @Override
             public void onAnimation(double percent) {
-                width += widthCrement;
-                target.repaint();
+                progress = startProgress + ((shown ? 1 : 0) - startProgress) * percent;
+                repaintLine();
             }
 
             @Override
             public void onEnd() {
-                width = targetWidth;
-                target.repaint();
+                progress = shown ? 1 : 0;
+                repaintLine();
             }
 
             @Override
             public void onStop() {
-                width = targetWidth;
-                target.repaint();
+                repaintLine();
             }
         })
                 .setDelay(0)
                 .setDuration(200);
     }
 
+    /**
+     * Shows or hides this line according to the focus of its component,
+     * animating it if that changed.
+     */
     public void update() {
-        animator.stop();
-        if (target.isFocusOwner()) {
-            targetWidth = target.getWidth();
-            widthCrement = +(double) target.getWidth() / 200;
-        } else {
-            widthCrement = -(double) target.getWidth() / 200;
-            targetWidth = 0;
+        boolean focused = target.isFocusOwner();
+        if (focused == shown) {
+            return;
         }
+        shown = focused;
+        // the rest of the component may look different when focused
+        target.repaint();
+        // a reversed animation starts from wherever the line is now
+        animator.stop();
+        startProgress = progress;
         animator.start();
     }
 
+    /**
+     * Gets the current width of this line. A shown line spans the whole width
+     * of its component, even if it was resized after the line was shown.
+     *
+     * @return the width of this line, in pixels
+     */
     public double getWidth() {
-        return width;
+        return progress * target.getWidth();
+    }
+
+    private void repaintLine() {
+        target.repaint(0, target.getHeight() - 5, target.getWidth(), 2);
     }
 }
@@ -1,6 +1,6 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
-import com.hq.swingmaterialdesign.materialdesign.resource.MaterialColor;
+import com.hq.swingmaterialdesign.materialdesign.resource.MaterialPalette;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
@@ -82,7 +82,7 @@ public class MaterialPanel extends JPanel {
     @Override
     public void setBackground(Color bg) {
         super.setBackground(bg);
-        setForeground(MaterialUtils.isDark(bg) ? MaterialColor.WHITE : MaterialColor.DARK_BLACK);
+        setForeground(MaterialUtils.isDark(bg) ? Color.WHITE : MaterialUtils.getColor(MaterialPalette.DARK_BLACK_ARGB));
     }
 
     @Override
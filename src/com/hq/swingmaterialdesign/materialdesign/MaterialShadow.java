@@ -3,10 +3,14 @@ package com.hq.swingmaterialdesign.materialdesign;
 import java.awt.*;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
 
 /**
  * A renderer for Material shadows. Shadows are a sign of elevation, and help
  * distinguishing elements inside a Material-based GUI.
+ * <p>
+ * Rendered shadows are compact 8-bit alpha masks which are cast in black when
+ * painted, see {@link #colorize(BufferedImage, Color)} for other colors.
  *
  * @author bilux (i.bilux@gmail.com)
  */
@@ -33,6 +37,40 @@ public class MaterialShadow {
      */
     public static final int OFFSET_RIGHT = 2;
 
+    /**
+     * The elevation level above which shadows don't change anymore.
+     */
+    static final double MAX_LEVEL = 2.0;
+
+    private static final IndexColorModel SHADOW_COLOR_MODEL = createColorModel(Color.BLACK);
+    private static final int BLUR_PASSES = 3;
+    private static final int MAX_BLUR_REACH = FastGaussianBlur.reach(blurRadius(MAX_LEVEL), BLUR_PASSES);
+    private static volatile boolean ninePatchEnabled = true;
+
+    /**
+     * Checks whether shadows of large components are painted as nine-patches.
+     *
+     * @return {@code true} if nine-patch shadows are enabled
+     * @see #setNinePatchEnabled(boolean)
+     */
+    public static boolean isNinePatchEnabled() {
+        return ninePatchEnabled;
+    }
+
+    /**
+     * Enables or disables nine-patch shadows. A shadow only varies within a few
+     * blur radii of the border of the component casting it, so when enabled,
+     * only a small patch with the corners and one pixel of each edge is
+     * rendered and blurred, and its edges are stretched across the rest of the
+     * component. The cost of the shadow then doesn't depend on the size of the
+     * component. Enabled by default.
+     *
+     * @param enabled {@code true} to enable nine-patch shadows
+     */
+    public static void setNinePatchEnabled(boolean enabled) {
+        ninePatchEnabled = enabled;
+    }
+
     /**
      * Creates a {@link BufferedImage} containing a shadow1 projected from a
      * square component of the given width and height.
@@ -63,27 +101,106 @@ public class MaterialShadow {
         if (level <= 0.0) {
             level = 0.0;
         }
-        if (level >= 2.0) {
-            level = 2.0;
+        if (level >= MAX_LEVEL) {
+            level = MAX_LEVEL;
         }
 
         // y = a * x + b
         float opacity1f = (float) ((2.0 / (1 + Math.exp(-2 * level))) - 1.0);
-        float radius1f = (float) ((4.0 / (1 + Math.exp(-2 * level))) - 2.0);
+        float radius1f = blurRadius(level);
 
         //float radius1f = (float) (2.5 * Math.sin(0.41 * level * level) + 0.5);
         //System.out.println("level: " + level+" > radius1f: " + radius1f +" > opacity1f: " + opacity1f);
-        BufferedImage shadowBlurImage = new BufferedImage(width, height, BufferedImage.TYPE_4BYTE_ABGR);
-        Graphics2D graphics2D = (Graphics2D) shadowBlurImage.getGraphics();
-        //graphics2D.setComposite(AlphaComposite.SrcOver);
-        graphics2D.setColor(new Color(0f, 0f, 0f, opacity1f));
+        // the shadow is black, so only its coverage is rendered and blurred
+        int alpha = (int) (opacity1f * 255 + 0.5f);
+        BufferedImage shadowMask = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics2D = (Graphics2D) shadowMask.getGraphics();
+        graphics2D.setColor(new Color(alpha, alpha, alpha));
         graphics2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         graphics2D.fill(new RoundRectangle2D.Float(OFFSET_LEFT, OFFSET_TOP, width - OFFSET_LEFT - OFFSET_RIGHT, height - OFFSET_TOP - OFFSET_BOTTOM, (float) borderRadius, (float) borderRadius));
         graphics2D.dispose();
-        FastGaussianBlur.blur(shadowBlurImage, radius1f, 3);
+        FastGaussianBlur.blurAlpha(shadowMask, radius1f, BLUR_PASSES);
+
+        return new BufferedImage(SHADOW_COLOR_MODEL, shadowMask.getRaster(), false, null);
+
+    }
+
+    /**
+     * Gets a copy of a shadow rendered by this class, cast in a different
+     * color. The returned image shares its pixels with the given one, so this
+     * is cheap and doesn't blur anything again.
+     *
+     * @param shadow a shadow rendered by this class
+     * @param color the color of the resulting shadow, its alpha is ignored
+     * @return A {@link BufferedImage} with the same shadow in the given color
+     */
+    public static BufferedImage colorize(BufferedImage shadow, Color color) {
+        return new BufferedImage(createColorModel(color), shadow.getRaster(), false, null);
+    }
+
+    /**
+     * Creates a color model that reads each 8-bit sample of a shadow as the
+     * opacity of the given color.
+     */
+    private static IndexColorModel createColorModel(Color color) {
+        byte[] r = new byte[256];
+        byte[] g = new byte[256];
+        byte[] b = new byte[256];
+        byte[] a = new byte[256];
+        for (int i = 0; i < 256; i++) {
+            r[i] = (byte) color.getRed();
+            g[i] = (byte) color.getGreen();
+            b[i] = (byte) color.getBlue();
+            a[i] = (byte) i;
+        }
+        return new IndexColorModel(8, 256, r, g, b, a);
+    }
 
-        return shadowBlurImage;
+    private static float blurRadius(double level) {
+        return (float) ((4.0 / (1 + Math.exp(-2 * level))) - 2.0);
+    }
 
+    /**
+     * Gets the size of the corners of a nine-patch shadow, that is, the
+     * distance from the border of the shadow beyond which the shadow no longer
+     * varies along the border.
+     *
+     * @param borderRadius the radius of the borders of the component
+     * @return the size of the corners, in pixels
+     */
+    static int getNinePatchInset(double borderRadius) {
+        return Math.max(Math.max(OFFSET_LEFT, OFFSET_RIGHT), Math.max(OFFSET_TOP, OFFSET_BOTTOM))
+                + (int) Math.ceil(borderRadius / 2) + MAX_BLUR_REACH + 1;
+    }
+
+    static boolean isNinePatch(int width, int height, int inset) {
+        return ninePatchEnabled && width > 2 * inset && height > 2 * inset;
+    }
+
+    /**
+     * Paints a nine-patch shadow, stretching the center row and column of the
+     * given patch to cover the given size.
+     */
+    private static void paintNinePatch(Graphics2D g, BufferedImage patch, int inset, int width, int height) {
+        Object interpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        int size = patch.getWidth();
+        int right = width - inset;
+        int bottom = height - inset;
+        // corners
+        g.drawImage(patch, 0, 0, inset, inset, 0, 0, inset, inset, null);
+        g.drawImage(patch, right, 0, width, inset, size - inset, 0, size, inset, null);
+        g.drawImage(patch, 0, bottom, inset, height, 0, size - inset, inset, size, null);
+        g.drawImage(patch, right, bottom, width, height, size - inset, size - inset, size, size, null);
+        // edges
+        g.drawImage(patch, inset, 0, right, inset, inset, 0, inset + 1, inset, null);
+        g.drawImage(patch, inset, bottom, right, height, inset, size - inset, inset + 1, size, null);
+        g.drawImage(patch, 0, inset, inset, bottom, 0, inset, inset, inset + 1, null);
+        g.drawImage(patch, right, inset, width, bottom, size - inset, inset, size, inset + 1, null);
+        // center
+        g.drawImage(patch, inset, inset, right, bottom, inset, inset, inset + 1, inset + 1, null);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                interpolation != null ? interpolation : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
     }
 
     private int pWd, pHt;
@@ -100,9 +217,11 @@ public class MaterialShadow {
 
     /**
      * Renders this {@link MaterialShadow} into a {@link BufferedImage} and
-     * returns it. A copy of the latest render is kept in case a shadow1 of the
-     * same dimensions and elevation is needed in order to decrease CPU usage
-     * when the component is idle.
+     * returns it. Renders are taken from the shared {@link ShadowCache}, so
+     * components of the same size, radius and elevation share the same image,
+     * and a reference to the latest one is kept in case a shadow1 of the same
+     * dimensions and elevation is needed in order to decrease CPU usage when
+     * the component is idle.
      *
      * @param width the witdh of the square component casting a shadow1, or
      * diameter if it is circular.
@@ -110,13 +229,13 @@ public class MaterialShadow {
      * @param radius the radius of the borders of a square component casting a
      * shadow1.
      * @param level the depth of the shadow1 [0~5]
-     * @return A {@link BufferedImage} with the contents of the shadow1.
-     * @see Type#SQUARE
-     * @see Type#CIRCULAR
+     * @return A {@link BufferedImage} with the contents of the shadow1. It is
+     * shared and must not be modified.
+     * @see ShadowCache
      */
     public BufferedImage render(int width, int height, double radius, double level) {
         if (pWd != width || pHt != height || pRd != radius || pLv != level) {
-            shadowBg = MaterialShadow.renderShadow(width, height, level, radius);
+            shadowBg = ShadowCache.getShared().get(width, height, radius, level);
             pWd = width;
             pHt = height;
             pRd = radius;
@@ -124,4 +243,46 @@ public class MaterialShadow {
         }
         return shadowBg;
     }
+
+    /**
+     * Paints this {@link MaterialShadow} at the origin of the given canvas.
+     * Large shadows are painted as nine-patches if enabled, otherwise this is
+     * the same as painting the result of
+     * {@link #render(int, int, double, double)}.
+     *
+     * @param g canvas
+     * @param width the witdh of the square component casting a shadow1
+     * @param height the height of the square component casting a shadow1
+     * @param radius the radius of the borders of the component
+     * @param level the depth of the shadow1 [0~5]
+     * @see #setNinePatchEnabled(boolean)
+     */
+    public void paint(Graphics2D g, int width, int height, double radius, double level) {
+        paint(g, width, height, radius, level, false);
+    }
+
+    /**
+     * Paints this {@link MaterialShadow} at the origin of the given canvas.
+     * While the elevation is being animated, the nearest pre-baked step of the
+     * shared {@link ShadowAtlas} is painted instead of rendering a shadow for
+     * each frame.
+     *
+     * @param g canvas
+     * @param width the witdh of the square component casting a shadow1
+     * @param height the height of the square component casting a shadow1
+     * @param radius the radius of the borders of the component
+     * @param level the depth of the shadow1 [0~5]
+     * @param animating {@code true} if the level is being animated
+     * @see #setNinePatchEnabled(boolean)
+     */
+    public void paint(Graphics2D g, int width, int height, double radius, double level, boolean animating) {
+        int inset = getNinePatchInset(radius);
+        if (isNinePatch(width, height, inset)) {
+            int size = 2 * inset + 1;
+            BufferedImage patch = animating ? ShadowAtlas.getShared().get(size, size, radius, level) : render(size, size, radius, level);
+            paintNinePatch(g, patch, inset, width, height);
+        } else {
+            g.drawImage(animating ? ShadowAtlas.getShared().get(width, height, radius, level) : render(width, height, radius, level), 0, 0, null);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
+import com.hq.swingmaterialdesign.materialdesign.resource.FontCache;
 import com.hq.swingmaterialdesign.materialdesign.resource.MaterialColor;
+import com.hq.swingmaterialdesign.materialdesign.resource.MaterialPalette;
 import com.hq.swingmaterialdesign.materialdesign.resource.Roboto;
 
 import javax.swing.*;
@@ -23,10 +25,15 @@ public class MaterialTextField extends JTextField {
     public static final int HINT_OPACITY_MASK = 0x99000000;
     public static final int LINE_OPACITY_MASK = 0x66000000;
 
+    /**
+     * Vertical offset of the text, leaving room for the floating label.
+     */
+    private static final int TEXT_OFFSET = 9;
+
     private final MaterialFloatingLabel hintLabel = new MaterialFloatingLabel(this);
     private final MaterialLine line = new MaterialLine(this);
 
-    private Color accentColor = MaterialColor.CYAN_500;
+    private Color accentColor = MaterialPalette.getColor(MaterialPalette.CYAN, 500);
 
     /**
      * Default constructor for {@code MaterialTextField}. A default model is
@@ -35,17 +42,12 @@ public class MaterialTextField extends JTextField {
     public MaterialTextField() {
         super();
         setBorder(null);
-        setFont(Roboto.REGULAR.deriveFont(16f));
+        setFont(FontCache.derive(Roboto.Face.REGULAR.getFont(), 16f));
         hintLabel.setText("");
         setOpaque(false);
-        setBackground(MaterialColor.WHITE);
-
-        setCaret(new DefaultCaret() {
-            @Override
-            protected synchronized void damage(Rectangle r) {
-                MaterialTextField.this.repaint(); //fix caret not being removed completely
-            }
-        });
+        setBackground(Color.WHITE);
+
+        setCaret(new DefaultCaret());
         getCaret().setBlinkRate(500);
     }
 
@@ -118,6 +120,17 @@ public class MaterialTextField extends JTextField {
         line.update();
     }
 
+    /**
+     * Repaints the specified rectangle of this text field. The text, caret
+     * and selection are painted {@link #TEXT_OFFSET} pixels below where the
+     * text UI expects them, so partial repaints requested by the UI are
+     * extended to cover that offset too.
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+        super.repaint(tm, x, y, width, height + TEXT_OFFSET);
+    }
+
     @Override
     protected void processFocusEvent(FocusEvent e) {
         super.processFocusEvent(e);
@@ -142,13 +155,13 @@ public class MaterialTextField extends JTextField {
         g2.setColor(getBackground());
         g2.fillRect(0, (getHeight() / 2) - 4, getWidth(), getHeight() / 2);
 
-        g2.translate(0, 9);
+        g2.translate(0, TEXT_OFFSET);
         super.paintComponent(g);
-        g2.translate(0, -9);
+        g2.translate(0, -TEXT_OFFSET);
 
         // hint label in text
         if (!getLabel().isEmpty() && getText().isEmpty() && (getLabel().isEmpty() || isFocusOwner())) {
-            g.setFont(Roboto.REGULAR.deriveFont(16f));
+            g.setFont(FontCache.derive(Roboto.Face.REGULAR.getFont(), 16f));
             g2.setColor(MaterialUtils.applyAlphaMask(getForeground(), HINT_OPACITY_MASK));
             FontMetrics metrics = g.getFontMetrics(g.getFont());
             g.drawString(getLabel(), 0, metrics.getAscent() + getHeight() / 2);
@@ -1,6 +1,7 @@
 package com.hq.swingmaterialdesign.materialdesign;
 
 import java.awt.Color;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * This class provides utilitary methods for Swing Material. These are public
@@ -12,6 +13,9 @@ import java.awt.Color;
  */
 public class MaterialUtils {
 
+    private static final int COLOR_MEMO_SIZE = 256;
+    private static final AtomicReferenceArray<Color> COLOR_MEMO = new AtomicReferenceArray<>(COLOR_MEMO_SIZE);
+
     /**
      * Determines if a given {@link Color} is dark enough for white text to be
      * seen more easily than black text. This tries to stick to the Material
@@ -30,6 +34,19 @@ public class MaterialUtils {
         //return (color.getRed()*0.21 + color.getGreen()*0.72 + color.getBlue()*0.07) < (0.54*255);
     }
 
+    /**
+     * Determines if a given ARGB color is dark enough for white text to be
+     * seen more easily than black text.
+     *
+     * @param argb a color to evaluate, as an ARGB integer
+     * @return {@code true} if the provided color is dark, {@code false}
+     * otherwise.
+     * @see #isDark(Color)
+     */
+    public static boolean isDark(int argb) {
+        return (red(argb) * 0.2125 + green(argb) * 0.7154 + blue(argb) * 0.0721) < (0.535 * 255);
+    }
+
     /**
      * Utilitary method for getting a copy of a provided Color but using an
      * specific opacity mask. Intented for use within the library.
@@ -39,7 +56,18 @@ public class MaterialUtils {
      * @return a copy of the given color, with a modified alpha value
      */
     public static Color applyAlphaMask(Color color, int bitMask) {
-        return new Color(color.getRGB() & 0x00FFFFFF | (bitMask & 0xFF000000), true);
+        return getColor(applyAlphaMask(color.getRGB(), bitMask));
+    }
+
+    /**
+     * Gets a provided ARGB color with an specific opacity mask.
+     *
+     * @param argb the color to use as base, as an ARGB integer
+     * @param bitMask the bitmask to apply, where the bits 25 to 32 are used
+     * @return the given color with a modified alpha value
+     */
+    public static int applyAlphaMask(int argb, int bitMask) {
+        return argb & 0x00FFFFFF | (bitMask & 0xFF000000);
     }
 
     /**
@@ -51,10 +79,18 @@ public class MaterialUtils {
      * @return a {@link Color} sightly darker than the one input.
      */
     public static Color darken(Color color) {
-        int r = wrapU8B(color.getRed() - 30);
-        int g = wrapU8B(color.getGreen() - 30);
-        int b = wrapU8B(color.getBlue() - 30);
-        return new Color(r, g, b, color.getAlpha());
+        return getColor(darken(color.getRGB()));
+    }
+
+    /**
+     * Gets a darker version of a provided ARGB color, at the same fixed step as
+     * {@link #darken(Color)}.
+     *
+     * @param argb the original color, as an ARGB integer
+     * @return a color sightly darker than the one input.
+     */
+    public static int darken(int argb) {
+        return brighten(argb, -30);
     }
 
     /**
@@ -66,17 +102,69 @@ public class MaterialUtils {
      * @return a {@link Color} sightly brighter than the one input.
      */
     public static Color brighten(Color color) {
-        int r = wrapU8B(color.getRed() + 30);
-        int g = wrapU8B(color.getGreen() + 30);
-        int b = wrapU8B(color.getBlue() + 30);
-        return new Color(r, g, b, color.getAlpha());
+        return getColor(brighten(color.getRGB()));
     }
 
     public static Color brighten(Color color, int level) {
-        int r = wrapU8B(color.getRed() + level);
-        int g = wrapU8B(color.getGreen() + level);
-        int b = wrapU8B(color.getBlue() + level);
-        return new Color(r, g, b, color.getAlpha());
+        return getColor(brighten(color.getRGB(), level));
+    }
+
+    /**
+     * Gets a brighter version of a provided ARGB color, at the same fixed step
+     * as {@link #brighten(Color)}.
+     *
+     * @param argb the original color, as an ARGB integer
+     * @return a color sightly brighter than the one input.
+     */
+    public static int brighten(int argb) {
+        return brighten(argb, 30);
+    }
+
+    /**
+     * Gets a brighter, or darker if the level is negative, version of a
+     * provided ARGB color.
+     *
+     * @param argb the original color, as an ARGB integer
+     * @param level the amount to add to each color channel
+     * @return the modified color, with the same alpha value
+     */
+    public static int brighten(int argb, int level) {
+        int r = wrapU8B(red(argb) + level);
+        int g = wrapU8B(green(argb) + level);
+        int b = wrapU8B(blue(argb) + level);
+        return (argb & 0xFF000000) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Gets a {@link Color} for a given ARGB integer. Recently used colors are
+     * memoized, so painting code can turn the results of the ARGB methods of
+     * this class into colors every frame without allocating. The returned
+     * color is shared and, like any {@link Color}, immutable.
+     *
+     * @param argb the color, as an ARGB integer
+     * @return a color with the given ARGB value
+     */
+    public static Color getColor(int argb) {
+        int hash = argb * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & (COLOR_MEMO_SIZE - 1);
+        Color color = COLOR_MEMO.get(slot);
+        if (color == null || color.getRGB() != argb) {
+            color = new Color(argb, true);
+            COLOR_MEMO.set(slot, color);
+        }
+        return color;
+    }
+
+    private static int red(int argb) {
+        return (argb >> 16) & 0xFF;
+    }
+
+    private static int green(int argb) {
+        return (argb >> 8) & 0xFF;
+    }
+
+    private static int blue(int argb) {
+        return argb & 0xFF;
     }
 
     private static int wrapU8B(int i) {
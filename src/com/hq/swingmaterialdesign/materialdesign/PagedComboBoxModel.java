@@ -0,0 +1,391 @@
+package com.hq.swingmaterialdesign.materialdesign;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import javax.swing.SwingUtilities;
+
+/**
+ * A combo box model whose items are loaded in pages, in the background, as
+ * they are shown. Items that haven't been loaded yet are {@code null}, and
+ * {@link MaterialComboBox.FieldRenderer} paints them as placeholder rows until
+ * their page arrives. Only the most recently used pages are kept in memory.
+ * <p>
+ * Items are fetched from a {@link DataSource}, e.g. a database query, on an
+ * {@link Executor}. By default, this is a shared executor using virtual
+ * threads when the JVM supports them, or a couple of daemon threads
+ * otherwise. The model itself must only be used on the EDT, where loaded pages
+ * are delivered. Failed loads are reported through {@link #getLoadError()}
+ * and its {@code "loadError"} property.
+ * <p>
+ * A paged model is meant for virtualized combo boxes, which only ask for the
+ * items being shown, so {@link MaterialComboBox} makes itself virtualized when
+ * given one, and selects items without looking for them in the model. It
+ * can't be combined with a filterable combo box, which indexes every item, and
+ * typing doesn't select items, which would load every page.
+ *
+ * @param <E> the type of the items
+ * @author bilux (i.bilux@gmail.com)
+ */
+public class PagedComboBoxModel<E> extends AbstractListModel<E> implements ComboBoxModel<E> {
+
+    /**
+     * The source of the items of a {@link PagedComboBoxModel}. Its methods are
+     * called on a background thread.
+     *
+     * @param <E> the type of the items
+     */
+    public interface DataSource<E> {
+
+        /**
+         * Counts the items.
+         *
+         * @return the number of items
+         * @throws Exception if the items could not be counted
+         */
+        int getSize() throws Exception;
+
+        /**
+         * Loads a range of items.
+         *
+         * @param offset the index of the first item
+         * @param count the maximum number of items to load
+         * @return the items, which may be fewer than requested at the end
+         * @throws Exception if the items could not be loaded
+         */
+        List<E> load(int offset, int count) throws Exception;
+    }
+
+    /**
+     * Default number of items per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Default maximum number of pages kept in memory.
+     */
+    public static final int DEFAULT_MAX_PAGES = 32;
+
+    private static final long serialVersionUID = 1L;
+
+    private static Executor sharedExecutor;
+
+    private final DataSource<E> source;
+    private final Executor executor;
+    private final int pageSize;
+    private final int maxPages;
+    private final LinkedHashMap<Integer, Object[]> pages;
+    private final Set<Integer> pendingPages = new HashSet<>();
+    private final PropertyChangeSupport changeSupport = new PropertyChangeSupport(this);
+    private int size;
+    private int generation;
+    private int lastPage = -1;
+    private Object[] lastPageItems;
+    private Object selectedItem;
+    private int selectedIndex = -1;
+    private Exception loadError;
+
+    /**
+     * Creates a new paged model with the default page size and page limit,
+     * loading its items on the shared executor.
+     *
+     * @param source the source of the items
+     */
+    public PagedComboBoxModel(DataSource<E> source) {
+        this(source, getSharedExecutor(), DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    /**
+     * Creates a new paged model.
+     *
+     * @param source the source of the items
+     * @param executor the executor loading the pages. Loaded items are
+     * delivered later on the EDT even if it runs them on the calling thread
+     * @param pageSize the number of items per page
+     * @param maxPages the maximum number of pages kept in memory
+     */
+    public PagedComboBoxModel(DataSource<E> source, Executor executor, int pageSize, int maxPages) {
+        if (pageSize < 1 || maxPages < 1) {
+            throw new IllegalArgumentException("Invalid page size or limit: " + pageSize + ", " + maxPages);
+        }
+        this.source = source;
+        this.executor = executor;
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.pages = new LinkedHashMap<Integer, Object[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Object[]> eldest) {
+                return size() > PagedComboBoxModel.this.maxPages;
+            }
+        };
+        loadSize();
+    }
+
+    /**
+     * Discards all the loaded items and counts them again, e.g. after the
+     * data source changed. Pages being loaded are ignored when they arrive.
+     */
+    public void refresh() {
+        generation++;
+        pages.clear();
+        pendingPages.clear();
+        lastPage = -1;
+        lastPageItems = null;
+        selectedIndex = -1;
+        setLoadError(null);
+        int oldSize = size;
+        size = 0;
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        loadSize();
+    }
+
+    /**
+     * Checks whether the item at the given index has been loaded.
+     *
+     * @param index the index of the item
+     * @return {@code true} if the page of the item is in memory
+     */
+    public boolean isLoaded(int index) {
+        return index >= 0 && index < size && getPage(index / pageSize) != null;
+    }
+
+    /**
+     * Gets the number of pages currently kept in memory.
+     *
+     * @return the number of loaded pages
+     */
+    public int getLoadedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Gets the error that made the latest load fail, be it counting the items
+     * or loading a page. The error is cleared by the next successful load, or
+     * by {@link #refresh()}. A page that failed to load is asked for again the
+     * next time one of its items is shown.
+     *
+     * @return the error of the latest load, or {@code null} if it succeeded
+     */
+    public Exception getLoadError() {
+        return loadError;
+    }
+
+    /**
+     * Adds a listener notified when the {@code "loadError"} property changes.
+     *
+     * @param listener the listener to add
+     */
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        changeSupport.addPropertyChangeListener(listener);
+    }
+
+    /**
+     * Removes a listener added by
+     * {@link #addPropertyChangeListener(PropertyChangeListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removePropertyChangeListener(PropertyChangeListener listener) {
+        changeSupport.removePropertyChangeListener(listener);
+    }
+
+    /**
+     * Gets the index of the selected item, as recorded when it was selected.
+     *
+     * @return the index of the selected item, or {@code -1} if there is none
+     * or it isn't known
+     */
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the item at the given index, loading its page in the background if
+     * it isn't in memory.
+     *
+     * @param index the index of the item
+     * @return the item, or {@code null} while it is being loaded
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getElementAt(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        int page = index / pageSize;
+        Object[] items = getPage(page);
+        if (items == null) {
+            loadPage(page);
+            return null;
+        }
+        int offset = index - page * pageSize;
+        return offset < items.length ? (E) items[offset] : null;
+    }
+
+    /**
+     * Selects an item. Its index is looked for in the loaded pages only,
+     * which always hold an item that was just picked from the popup.
+     *
+     * @param anItem the item to select
+     */
+    @Override
+    public void setSelectedItem(Object anItem) {
+        if (selectedItem == null ? anItem == null : selectedItem.equals(anItem)) {
+            return;
+        }
+        selectedItem = anItem;
+        selectedIndex = anItem != null ? indexOfLoaded(anItem) : -1;
+        fireContentsChanged(this, -1, -1);
+    }
+
+    /**
+     * Looks for an item in the loaded pages, stopping at the first match.
+     *
+     * @return the index of the item, or -1 if no loaded page holds it
+     */
+    private int indexOfLoaded(Object item) {
+        for (Map.Entry<Integer, Object[]> page : pages.entrySet()) {
+            Object[] items = page.getValue();
+            for (int i = 0; i < items.length; i++) {
+                if (item.equals(items[i])) {
+                    return page.getKey() * pageSize + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+
+    private Object[] getPage(int page) {
+        if (page == lastPage) {
+            return lastPageItems;
+        }
+        Object[] items = pages.get(page);
+        if (items != null) {
+            lastPage = page;
+            lastPageItems = items;
+        }
+        return items;
+    }
+
+    private void loadSize() {
+        final int loadGeneration = generation;
+        executor.execute(() -> {
+            try {
+                int loadedSize = source.getSize();
+                SwingUtilities.invokeLater(() -> sizeLoaded(loadGeneration, loadedSize, null));
+            } catch (Exception e) {
+                // the model stays empty until it is refreshed
+                SwingUtilities.invokeLater(() -> sizeLoaded(loadGeneration, 0, e));
+            }
+        });
+    }
+
+    private void sizeLoaded(int loadGeneration, int loadedSize, Exception error) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        setLoadError(error);
+        if (loadedSize <= 0) {
+            return;
+        }
+        size = loadedSize;
+        fireIntervalAdded(this, 0, size - 1);
+    }
+
+    private void loadPage(final int page) {
+        if (!pendingPages.add(page)) {
+            return;
+        }
+        final int loadGeneration = generation;
+        final int offset = page * pageSize;
+        final int count = Math.min(pageSize, size - offset);
+        executor.execute(() -> {
+            List<E> items = null;
+            Exception error = null;
+            try {
+                items = source.load(offset, count);
+            } catch (Exception e) {
+                // the page is asked for again the next time it is shown
+                error = e;
+            }
+            final Object[] loadedItems = items != null ? items.toArray() : null;
+            final Exception loadError = error;
+            SwingUtilities.invokeLater(() -> pageLoaded(loadGeneration, page, loadedItems, loadError));
+        });
+    }
+
+    private void pageLoaded(int loadGeneration, int page, Object[] items, Exception error) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        pendingPages.remove(page);
+        setLoadError(error);
+        if (items == null) {
+            return;
+        }
+        pages.put(page, items);
+        if (page == lastPage) {
+            lastPageItems = items;
+        }
+        if (lastPage >= 0 && !pages.containsKey(lastPage)) {
+            // evicted to make room for this page
+            lastPage = -1;
+            lastPageItems = null;
+        }
+        int first = page * pageSize;
+        fireContentsChanged(this, first, Math.min(size, first + pageSize) - 1);
+    }
+
+    private void setLoadError(Exception error) {
+        Exception oldError = loadError;
+        if (oldError != error) {
+            loadError = error;
+            changeSupport.firePropertyChange("loadError", oldError, error);
+        }
+    }
+
+    private static synchronized Executor getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = createExecutor();
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * Creates an executor using virtual threads if the JVM has them, looked
+     * up reflectively as this library targets Java 8, or a pair of daemon
+     * threads otherwise.
+     */
+    private static Executor createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newFixedThreadPool(2, task -> {
+                Thread thread = new Thread(task, "PagedComboBoxModel loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
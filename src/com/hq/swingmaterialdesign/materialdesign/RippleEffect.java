@@ -11,16 +11,71 @@ import java.awt.event.MouseEvent;
  * A {@code RippleEffect} is applied into certain components, like buttons and
  * certain list elements. Basically, is that wave of color that appears when you
  * click stuff.
+ * <p>
+ * Every click adds a new ripple, so rapid clicks show overlapping ripples.
+ * Ripples come from a small pool owned by the effect, recycling the oldest one
+ * when all of them are in use, and a single animator drives all of them.
  *
  * @author bilux (i.bilux@gmail.com)
  */
 public class RippleEffect {
 
+    /**
+     * Maximum number of ripples shown at the same time by a component.
+     */
+    private static final int MAX_RIPPLES = 4;
+
+    private static final int RIPPLE_DURATION = 999;
+
     private final JComponent target;
-    private final RippleAnimation ripple = new RippleAnimation();
+    private final Ripple[] ripples = new Ripple[MAX_RIPPLES];
+    private final Rectangle dirtyRegion = new Rectangle();
+    private final Animator animator;
+    private int paintOffsetX;
+    private int paintOffsetY;
 
     private RippleEffect(final JComponent component) {
         this.target = component;
+        for (int i = 0; i < ripples.length; i++) {
+            ripples[i] = new Ripple();
+        }
+        animator = new Animator(new AnimationListener() {
+            @Override
+            public void onStart() {
+
+            }
+
+            @Override
+            public void onAnimation(double percent) {
+                animateRipples(animator.getFrameTime());
+            }
+
+            @Override
+            public void onEnd() {
+                // the animator runs for as long as the latest ripple
+                stopRipples();
+            }
+
+            @Override
+            public void onStop() {
+                stopRipples();
+            }
+        })
+                .setDelay(0)
+                .setDuration(RIPPLE_DURATION);
+    }
+
+    /**
+     * Sets the translation of the graphics this effect is painted with,
+     * relative to the component, so that the areas repainted while ripples
+     * are animated match where they are painted.
+     *
+     * @param x the horizontal translation, in pixels
+     * @param y the vertical translation, in pixels
+     */
+    public void setPaintOffset(int x, int y) {
+        paintOffsetX = x;
+        paintOffsetY = y;
     }
 
     /**
@@ -31,26 +86,107 @@ public class RippleEffect {
      * @param g canvas
      */
     public void paint(Graphics g) {
-        if (ripple.isRippling()) {
+        if (animator.isRunning()) {
             Graphics2D g2 = (Graphics2D) g;
-            float rippleOpacity = (float) ripple.getRippleOpacity();
-            Point rippleCenter = ripple.getRippleCenter();
-            int rippleRadius = (int) ripple.getRippleRadius();
-            Color fg = g2.getColor();
-            g2.setColor(new Color(fg.getRed() / 255f, fg.getGreen() / 255f, fg.getBlue() / 255f, rippleOpacity));
-            g2.fillOval(rippleCenter.x - rippleRadius, rippleCenter.y - rippleRadius, 2 * rippleRadius, 2 * rippleRadius);
+            int rgb = g2.getColor().getRGB();
+            for (Ripple ripple : ripples) {
+                if (ripple.active && ripple.radius > 0) {
+                    int alpha = (int) (ripple.opacity * 255 + 0.5f);
+                    int radius = (int) ripple.radius;
+                    g2.setColor(MaterialUtils.getColor(MaterialUtils.applyAlphaMask(rgb, alpha << 24)));
+                    g2.fillOval(ripple.centerX - radius, ripple.centerY - radius, 2 * radius, 2 * radius);
+                }
+            }
         }
     }
 
     /**
      * Adds a ripple at the given point.
      *
-     * @param point point to add the ripple at
+     * @param x the x coordinate of the center of the ripple
+     * @param y the y coordinate of the center of the ripple
      * @param maxRadius the maximum radius of the ripple
      */
-    private void addRipple(Point point, int maxRadius) {
-        ripple.setRipple(point, maxRadius);
-        ripple.start();
+    private void addRipple(int x, int y, int maxRadius) {
+        long now = System.nanoTime();
+        Ripple ripple = ripples[0];
+        for (Ripple candidate : ripples) {
+            if (!candidate.active) {
+                ripple = candidate;
+                break;
+            }
+            if (candidate.startTime < ripple.startTime) {
+                ripple = candidate;
+            }
+        }
+        if (ripple.active) {
+            // recycled, so its last circle must be erased
+            ripple.radius = 0;
+            repaintRipple(ripple);
+        }
+        ripple.centerX = x;
+        ripple.centerY = y;
+        ripple.maxRadius = maxRadius;
+        ripple.startTime = now;
+        ripple.radius = 0;
+        ripple.opacity = 0.5;
+        ripple.active = true;
+        animator.start();
+    }
+
+    private void animateRipples(long now) {
+        for (Ripple ripple : ripples) {
+            if (ripple.active) {
+                double percent = Math.min(1.0, (now - ripple.startTime) / (RIPPLE_DURATION * 1000000.0));
+                if (percent >= 1.0) {
+                    ripple.active = false;
+                    ripple.radius = 0;
+                } else {
+                    ripple.radius = ripple.maxRadius * percent * percent;
+                    ripple.opacity = 0.5 * Math.sin(3.0 * percent * percent);
+                }
+                repaintRipple(ripple);
+            }
+        }
+    }
+
+    private void stopRipples() {
+        for (Ripple ripple : ripples) {
+            if (ripple.active) {
+                ripple.active = false;
+                ripple.radius = 0;
+                repaintRipple(ripple);
+            }
+        }
+    }
+
+    /**
+     * Repaints the area covered by a ripple, both as it was last painted and
+     * as it is now, instead of the whole component. Ripples only grow, but they
+     * also fade out, so the previous circle must be repainted as well.
+     */
+    private void repaintRipple(Ripple ripple) {
+        int radius = ripple.radius > 0 ? (int) ripple.radius + 1 : 0;
+        if (radius > 0) {
+            dirtyRegion.setBounds(ripple.centerX - radius, ripple.centerY - radius, 2 * radius, 2 * radius);
+            if (ripple.paintedRadius > 0) {
+                dirtyRegion.add(ripple.paintedX - ripple.paintedRadius, ripple.paintedY - ripple.paintedRadius);
+                dirtyRegion.add(ripple.paintedX + ripple.paintedRadius, ripple.paintedY + ripple.paintedRadius);
+            }
+        } else if (ripple.paintedRadius > 0) {
+            dirtyRegion.setBounds(ripple.paintedX - ripple.paintedRadius, ripple.paintedY - ripple.paintedRadius,
+                    2 * ripple.paintedRadius, 2 * ripple.paintedRadius);
+        } else {
+            return;
+        }
+        ripple.paintedX = ripple.centerX;
+        ripple.paintedY = ripple.centerY;
+        ripple.paintedRadius = radius;
+        dirtyRegion.translate(paintOffsetX, paintOffsetY);
+        SwingUtilities.computeIntersection(0, 0, target.getWidth(), target.getHeight(), dirtyRegion);
+        if (!dirtyRegion.isEmpty()) {
+            target.repaint(dirtyRegion.x, dirtyRegion.y, dirtyRegion.width, dirtyRegion.height);
+        }
     }
 
     /**
@@ -67,7 +203,7 @@ public class RippleEffect {
         target.addMouseListener(new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
-                rippleEffect.addRipple(e.getPoint(), target.getWidth());
+                rippleEffect.addRipple(e.getX(), e.getY(), target.getWidth());
             }
         });
         return rippleEffect;
@@ -88,81 +224,26 @@ public class RippleEffect {
         target.addMouseListener(new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
-                rippleEffect.addRipple(new Point(24, 24), target.getWidth() / 2);
+                rippleEffect.addRipple(24, 24, target.getWidth() / 2);
             }
         });
         return rippleEffect;
     }
 
     /**
-     * A ripple animation (one ripple circle after one click).
+     * A ripple (one ripple circle after one click).
      */
-    private class RippleAnimation {
+    private static final class Ripple {
 
-        private final Animator animator;
-        private Point rippleCenter;
+        private boolean active;
+        private int centerX;
+        private int centerY;
         private int maxRadius;
-        private double rippleRadius;
-        private double targetRippleRadius;
-        private double rippleRadiusCrement;
-        private double rippleOpacity;
-
-        private RippleAnimation() {
-            animator = new Animator(new AnimationListener() {
-                @Override
-                public void onStart() {
-                    rippleRadius = 0;
-                    targetRippleRadius = maxRadius;
-                    rippleRadiusCrement = +(double) (targetRippleRadius - rippleRadius);
-                    rippleOpacity = 0.5;
-                }
-
-                @Override
-                public void onAnimation(double percent) {
-                    rippleRadius = rippleRadiusCrement * percent * percent;
-                    rippleOpacity = 0.5 * Math.sin(3.0 * percent * percent);
-                    target.repaint();
-                }
-
-                @Override
-                public void onEnd() {
-                    rippleRadius = 0;
-                    target.repaint();
-                }
-
-                @Override
-                public void onStop() {
-                    rippleRadius = 0;
-                    target.repaint();
-                }
-            })
-                    .setDelay(0)
-                    .setDuration(999);
-        }
-
-        void start() {
-            animator.start();
-        }
-
-        public void setRipple(Point rippleCenter, int maxRadius) {
-            this.rippleCenter = rippleCenter;
-            this.maxRadius = maxRadius;
-        }
-
-        public double getRippleOpacity() {
-            return rippleOpacity;
-        }
-
-        public Point getRippleCenter() {
-            return rippleCenter;
-        }
-
-        public double getRippleRadius() {
-            return rippleRadius;
-        }
-
-        public boolean isRippling() {
-            return animator.isRunning();
-        }
+        private long startTime;
+        private double radius;
+        private double opacity;
+        private int paintedX;
+        private int paintedY;
+        private int paintedRadius;
     }
 }
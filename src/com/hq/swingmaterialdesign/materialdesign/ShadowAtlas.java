@@ -0,0 +1,112 @@
+package com.hq.swingmaterialdesign.materialdesign;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A process-wide atlas of pre-baked shadows used while elevation changes are
+ * animated. For each shape (size and border radius of the component casting
+ * the shadow), the atlas uses a fixed number of discrete elevation steps
+ * between 0 and the maximum elevation level, so animation frames only have to
+ * pick the nearest step instead of rendering and blurring a new shadow.
+ * <p>
+ * The atlas holds no images itself. Steps are rendered lazily through a
+ * {@link ShadowCache} the first time they are needed and kept there, so they
+ * count towards the byte budget of the cache and are evicted along with the
+ * other shadows. The default steps fall on the elevation steps of the cache,
+ * so a step that was evicted is rendered again exactly the same.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class ShadowAtlas {
+
+    /**
+     * The default number of elevation steps per shape, which puts a step at
+     * every eighth of an elevation level.
+     */
+    public static final int DEFAULT_STEPS = 17;
+
+    private static final ShadowAtlas SHARED = new ShadowAtlas(DEFAULT_STEPS, ShadowCache.getShared());
+
+    private final int steps;
+    private final ShadowCache cache;
+
+    /**
+     * Creates a new shadow atlas. Most code should use {@link #getShared()}
+     * instead, so all the components share their shadows.
+     *
+     * @param steps the number of elevation steps per shape, at least 2
+     * @param cache the cache rendering and holding the shadows
+     */
+    public ShadowAtlas(int steps, ShadowCache cache) {
+        if (steps < 2) {
+            throw new IllegalArgumentException("At least 2 steps are needed: " + steps);
+        }
+        this.steps = steps;
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the atlas shared by all the components of this library, which
+     * keeps its shadows in the shared {@link ShadowCache}.
+     *
+     * @return the shared shadow atlas
+     */
+    public static ShadowAtlas getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets the number of elevation steps per shape.
+     *
+     * @return the number of elevation steps
+     */
+    public int getSteps() {
+        return steps;
+    }
+
+    /**
+     * Gets the cache holding the shadows of this atlas.
+     *
+     * @return the shadow cache
+     */
+    public ShadowCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Gets the pre-baked shadow nearest to the given elevation level, rendering
+     * it if it isn't cached.
+     *
+     * @param width the component's width, in pixels
+     * @param height the component's height, in pixels
+     * @param radius the radius of the borders of the component
+     * @param level the elevation level [0~5]
+     * @return A {@link BufferedImage} with the contents of the shadow. It is
+     * shared and must not be modified.
+     */
+    public BufferedImage get(int width, int height, double radius, double level) {
+        int step = (int) Math.round(Math.max(0.0, Math.min(MaterialShadow.MAX_LEVEL, level)) / MaterialShadow.MAX_LEVEL * (steps - 1));
+        return cache.get(width, height, radius, step * MaterialShadow.MAX_LEVEL / (steps - 1));
+    }
+
+    /**
+     * Renders all the elevation steps of the shadow of a component in advance,
+     * e.g. while the application is starting. If the shadow of such a
+     * component is painted as a nine-patch, only its patch is rendered. The
+     * steps stay available as long as the cache doesn't evict them.
+     *
+     * @param width the component's width, in pixels
+     * @param height the component's height, in pixels
+     * @param radius the radius of the borders of the component
+     * @see MaterialShadow#setNinePatchEnabled(boolean)
+     */
+    public void prebake(int width, int height, double radius) {
+        int inset = MaterialShadow.getNinePatchInset(radius);
+        if (MaterialShadow.isNinePatch(width, height, inset)) {
+            width = height = 2 * inset + 1;
+        }
+        for (int step = 0; step < steps; step++) {
+            get(width, height, radius, step * MaterialShadow.MAX_LEVEL / (steps - 1));
+        }
+    }
+}
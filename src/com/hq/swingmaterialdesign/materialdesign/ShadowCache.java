@@ -0,0 +1,174 @@
+package com.hq.swingmaterialdesign.materialdesign;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A process-wide cache of rendered shadows. Shadows are keyed by the size and
+ * border radius of the component casting them and by their elevation level,
+ * quantized to steps of {@code 1/}{@link #LEVEL_STEPS}, so identical components
+ * share a single raster. The cache is bounded by the total amount of bytes
+ * held by its images, evicting the least recently used shadows first.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class ShadowCache {
+
+    /**
+     * Number of cached elevation steps per elevation level unit.
+     */
+    public static final int LEVEL_STEPS = 32;
+
+    private static final ShadowCache SHARED = new ShadowCache(16 * 1024 * 1024);
+
+    private final LinkedHashMap<ShadowKey, BufferedImage> shadows = new LinkedHashMap<>(64, 0.75f, true);
+    private final ShadowKey lookupKey = new ShadowKey();
+    private long maxBytes;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a new shadow cache. Most code should use {@link #getShared()}
+     * instead, so all the components share their shadows.
+     *
+     * @param maxBytes the maximum amount of bytes held by the cached images
+     */
+    public ShadowCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the cache shared by all the components of this library.
+     *
+     * @return the shared shadow cache
+     */
+    public static ShadowCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets the shadow of a component of the given size, border radius and
+     * elevation, rendering it if it isn't cached yet.
+     *
+     * @param width the component's width, in pixels
+     * @param height the component's height, in pixels
+     * @param radius the radius of the borders of the component
+     * @param level the elevation level [0~5], quantized before the lookup
+     * @return A {@link BufferedImage} with the contents of the shadow. It is
+     * shared and must not be modified.
+     */
+    public BufferedImage get(int width, int height, double radius, double level) {
+        int levelStep = (int) Math.round(Math.max(0.0, Math.min(MaterialShadow.MAX_LEVEL, level)) * LEVEL_STEPS);
+        synchronized (this) {
+            BufferedImage shadow = shadows.get(lookupKey.set(width, height, radius, levelStep));
+            if (shadow != null) {
+                hits++;
+                return shadow;
+            }
+            misses++;
+        }
+        BufferedImage shadow = MaterialShadow.renderShadow(width, height, (double) levelStep / LEVEL_STEPS, radius);
+        synchronized (this) {
+            BufferedImage previous = shadows.put(new ShadowKey().set(width, height, radius, levelStep), shadow);
+            if (previous != null) {
+                bytes -= sizeOf(previous);
+            }
+            bytes += sizeOf(shadow);
+            trim();
+        }
+        return shadow;
+    }
+
+    /**
+     * Gets the maximum amount of bytes held by the cached images.
+     *
+     * @return the capacity of this cache, in bytes
+     */
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum amount of bytes held by the cached images, evicting
+     * shadows if needed.
+     *
+     * @param maxBytes the capacity of this cache, in bytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        trim();
+    }
+
+    /**
+     * Gets the amount of bytes currently held by the cached images.
+     *
+     * @return the size of this cache, in bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the number of cached shadows.
+     *
+     * @return the number of cached shadows
+     */
+    public synchronized int getSize() {
+        return shadows.size();
+    }
+
+    /**
+     * Gets the number of lookups that found a cached shadow.
+     *
+     * @return the cache hit count
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to render a new shadow.
+     *
+     * @return the cache miss count
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of shadows evicted to keep this cache within its
+     * capacity.
+     *
+     * @return the eviction count
+     */
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Removes all the cached shadows. Counters are kept.
+     */
+    public synchronized void clear() {
+        shadows.clear();
+        bytes = 0;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<ShadowKey, BufferedImage>> eldest = shadows.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= sizeOf(eldest.next().getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+}
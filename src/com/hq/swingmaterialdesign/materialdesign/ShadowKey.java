@@ -0,0 +1,40 @@
+package com.hq.swingmaterialdesign.materialdesign;
+
+/**
+ * A mutable lookup key for cached shadows, so lookups don't allocate.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+final class ShadowKey {
+
+    private int width;
+    private int height;
+    private long radiusBits;
+    private int levelStep;
+
+    ShadowKey set(int width, int height, double radius, int levelStep) {
+        this.width = width;
+        this.height = height;
+        this.radiusBits = Double.doubleToLongBits(radius);
+        this.levelStep = levelStep;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ShadowKey)) {
+            return false;
+        }
+        ShadowKey other = (ShadowKey) obj;
+        return width == other.width && height == other.height
+                && radiusBits == other.radiusBits && levelStep == other.levelStep;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = width;
+        hash = 31 * hash + height;
+        hash = 31 * hash + (int) (radiusBits ^ (radiusBits >>> 32));
+        return 31 * hash + levelStep;
+    }
+}
@@ -0,0 +1,140 @@
+package com.hq.swingmaterialdesign.materialdesign.animation;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.*;
+
+/**
+ * The single animation clock shared by every {@link Animator}. Running
+ * animators register themselves on start and deregister once they stop or
+ * end, and a single {@link Timer} fans out one frame to all of them in one
+ * pass on the EDT, at most {@link #getTargetFrameRate()} times per second. The
+ * timer only runs while at least one animator is registered, so idle screens
+ * have no timer activity at all.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class AnimationPulse {
+
+    /**
+     * Frame rate value meaning that the pulse follows the refresh rate of the
+     * display.
+     */
+    public static final int FOLLOW_DISPLAY = 0;
+
+    private static final int DEFAULT_REFRESH_RATE = 60;
+    private static final AnimationPulse INSTANCE = new AnimationPulse();
+
+    private final List<Animator> animators = new ArrayList<>();
+    private final Timer pulseTimer;
+    private Animator[] frame = new Animator[16];
+    private int targetFrameRate = FOLLOW_DISPLAY;
+    private long frameInterval;
+    private long lastFrameTime;
+
+    private AnimationPulse() {
+        pulseTimer = new Timer(0, e -> pulse());
+        pulseTimer.setCoalesce(true);
+        pulseTimer.setInitialDelay(0);
+        setTargetFrameRate(FOLLOW_DISPLAY);
+    }
+
+    /**
+     * Gets the shared pulse.
+     *
+     * @return the pulse driving all the animations
+     */
+    public static AnimationPulse getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the frame rate cap of all the animations.
+     *
+     * @return the maximum frames per second, or {@link #FOLLOW_DISPLAY}
+     */
+    public synchronized int getTargetFrameRate() {
+        return targetFrameRate;
+    }
+
+    /**
+     * Sets the frame rate cap of all the animations, e.g. 60 or 120. No
+     * animation will be advanced more often than this, no matter how fast the
+     * underlying timer fires. Animations are time-based, so their speed doesn't
+     * depend on this value, only their smoothness and CPU usage do.
+     *
+     * @param framesPerSecond the maximum frames per second, or
+     * {@link #FOLLOW_DISPLAY} to use the refresh rate of the display
+     */
+    public synchronized void setTargetFrameRate(int framesPerSecond) {
+        if (framesPerSecond < 0) {
+            throw new IllegalArgumentException("Invalid frame rate: " + framesPerSecond);
+        }
+        targetFrameRate = framesPerSecond;
+        int fps = framesPerSecond == FOLLOW_DISPLAY ? getDisplayRefreshRate() : framesPerSecond;
+        frameInterval = 1000000000L / fps;
+        pulseTimer.setDelay(Math.max(1, 1000 / fps));
+    }
+
+    /**
+     * Gets the number of animators currently registered to this pulse.
+     *
+     * @return the number of running animations
+     */
+    public synchronized int getActiveCount() {
+        return animators.size();
+    }
+
+    synchronized void register(Animator animator) {
+        if (!animators.contains(animator)) {
+            animators.add(animator);
+        }
+        if (!pulseTimer.isRunning()) {
+            lastFrameTime = System.nanoTime() - frameInterval;
+            pulseTimer.start();
+        }
+    }
+
+    synchronized void unregister(Animator animator) {
+        animators.remove(animator);
+        if (animators.isEmpty()) {
+            pulseTimer.stop();
+        }
+    }
+
+    private void pulse() {
+        long frameTime = System.nanoTime();
+        int count;
+        synchronized (this) {
+            // coalesced or early timer events must not exceed the frame rate cap
+            if (frameTime - lastFrameTime < frameInterval - frameInterval / 8) {
+                return;
+            }
+            lastFrameTime = frameTime;
+            count = animators.size();
+            if (frame.length < count) {
+                frame = new Animator[Math.max(count, frame.length * 2)];
+            }
+            animators.toArray(frame);
+        }
+        for (int i = 0; i < count; i++) {
+            Animator animator = frame[i];
+            frame[i] = null;
+            animator.onPulse(frameTime);
+        }
+    }
+
+    private static int getDisplayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        int refreshRate = DisplayMode.REFRESH_RATE_UNKNOWN;
+        for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+            refreshRate = Math.max(refreshRate, device.getDisplayMode().getRefreshRate());
+        }
+        return refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE;
+    }
+}
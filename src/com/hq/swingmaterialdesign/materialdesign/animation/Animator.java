@@ -1,38 +1,27 @@
 package com.hq.swingmaterialdesign.materialdesign.animation;
 
-import javax.swing.*;
-
 /**
+ * A timed animation. Animators don't own a timer, they are driven by the
+ * shared {@link AnimationPulse} while they are running.
  *
  * @author bilux (i.bilux@gmail.com)
  */
 public class Animator {
 
     private final AnimationListener animationListener;
-    private Timer animatorTimer;
+    private boolean running;
 
+    private int delay;
     private int duration;
-    private int takenTime;
     private long startTime;
+    private long frameTime;
 
     public Animator(AnimationListener listener) {
         this.animationListener = listener;
-
-        animatorTimer = new Timer(1, e -> {
-            takenTime = (int) (System.currentTimeMillis() - startTime);
-            animationListener.onAnimation((double) takenTime / duration);
-            if (takenTime >= duration) {
-                SwingUtilities.invokeLater(() -> {
-                    animatorTimer.stop();
-                    animationListener.onEnd();
-                });
-            }
-        });
-        animatorTimer.setCoalesce(true);
     }
 
     public Animator setDelay(int delay) {
-        animatorTimer.setInitialDelay(delay);
+        this.delay = delay;
         return this;
     }
 
@@ -46,22 +35,61 @@ public class Animator {
     }
 
     public void start() {
-        animatorTimer.stop();
+        AnimationPulse.getInstance().unregister(this);
+        running = true;
         animationListener.onStart();
-        startTime = System.currentTimeMillis();
+        startTime = System.nanoTime() + delay * 1000000L;
 
-        animatorTimer.start();
+        AnimationPulse.getInstance().register(this);
     }
 
     public Animator stop() {
-        if (animatorTimer != null && animatorTimer.isRunning()) {
+        if (running) {
+            running = false;
+            AnimationPulse.getInstance().unregister(this);
             animationListener.onStop();
-            animatorTimer.stop();
         }
         return this;
     }
 
     public boolean isRunning() {
-        return animatorTimer != null && animatorTimer.isRunning();
+        return running;
+    }
+
+    /**
+     * Gets the time of the frame this animation was last advanced to, which
+     * is shared by all the animations advanced in the same frame. Listeners
+     * should use it instead of reading the clock themselves, so they stay in
+     * step with the other animations.
+     *
+     * @return the {@link System#nanoTime()} of the current frame
+     */
+    public long getFrameTime() {
+        return frameTime;
+    }
+
+    /**
+     * Advances this animation to the given frame time. Called by the
+     * {@link AnimationPulse} on the EDT.
+     *
+     * @param frameTime the {@link System#nanoTime()} of the current frame
+     */
+    void onPulse(long frameTime) {
+        if (!running) {
+            return;
+        }
+        long frameStartTime = startTime;
+        long takenTime = frameTime - frameStartTime;
+        if (takenTime < 0) {
+            return;
+        }
+        this.frameTime = frameTime;
+        long durationNanos = duration * 1000000L;
+        animationListener.onAnimation(durationNanos > 0 ? Math.min(1.0, (double) takenTime / durationNanos) : 1.0);
+        if (running && startTime == frameStartTime && takenTime >= durationNanos) {
+            running = false;
+            AnimationPulse.getInstance().unregister(this);
+            animationListener.onEnd();
+        }
     }
 }
@@ -0,0 +1,106 @@
+package com.hq.swingmaterialdesign.materialdesign.resource;
+
+import java.awt.Font;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A shared cache of derived fonts. {@link Font#deriveFont(float)} creates a
+ * new {@link Font} on each call, which also defeats the glyph caches bound to
+ * it, so components painting text should get their fonts from here instead.
+ * Fonts are cached per face (e.g. {@link Roboto.Face#getFont()} or
+ * {@link MaterialIcons#ICON_FONT}), style and size, and lookups don't
+ * allocate.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class FontCache {
+
+    /**
+     * The step animated font sizes are rounded to, in points.
+     *
+     * @see #deriveQuantized(Font, float)
+     */
+    public static final float SIZE_STEP = 0.25f;
+
+    private static final Map<Font, Variants> FACES = new ConcurrentHashMap<>();
+
+    private FontCache() {
+    }
+
+    /**
+     * Gets a font of the given face and size, keeping the style of the face.
+     *
+     * @param face the base font, e.g. {@link Roboto.Face#getFont()}
+     * @param size the size of the font, in points
+     * @return the shared derived font
+     */
+    public static Font derive(Font face, float size) {
+        return derive(face, face.getStyle(), size);
+    }
+
+    /**
+     * Gets a font of the given face, style and size.
+     *
+     * @param face the base font, e.g. {@link Roboto.Face#getFont()}
+     * @param style the style of the font, e.g. {@link Font#BOLD}
+     * @param size the size of the font, in points
+     * @return the shared derived font
+     */
+    public static Font derive(Font face, int style, float size) {
+        Variants variants = FACES.get(face);
+        if (variants == null) {
+            variants = FACES.computeIfAbsent(face, Variants::new);
+        }
+        return variants.get(style, size);
+    }
+
+    /**
+     * Gets a font of the given face with its size rounded to
+     * {@link #SIZE_STEP}. Meant for animated font sizes, so a transition only
+     * ever uses a handful of fonts.
+     *
+     * @param face the base font, e.g. {@link Roboto.Face#getFont()}
+     * @param size the size of the font, in points
+     * @return the shared derived font
+     */
+    public static Font deriveQuantized(Font face, float size) {
+        return derive(face, Math.round(size / SIZE_STEP) * SIZE_STEP);
+    }
+
+    /**
+     * All the fonts derived from a single face.
+     */
+    private static final class Variants {
+
+        private final Font face;
+        private int[] styles = new int[8];
+        private float[] sizes = new float[8];
+        private Font[] fonts = new Font[8];
+        private int count;
+
+        Variants(Font face) {
+            this.face = face;
+        }
+
+        synchronized Font get(int style, float size) {
+            for (int i = 0; i < count; i++) {
+                if (sizes[i] == size && styles[i] == style) {
+                    return fonts[i];
+                }
+            }
+            if (count == fonts.length) {
+                styles = Arrays.copyOf(styles, count * 2);
+                sizes = Arrays.copyOf(sizes, count * 2);
+                fonts = Arrays.copyOf(fonts, count * 2);
+            }
+            Font font = face.deriveFont(style, size);
+            styles[count] = style;
+            sizes[count] = size;
+            fonts[count] = font;
+            count++;
+            return font;
+        }
+    }
+}
@@ -4,296 +4,299 @@ import java.awt.*;
 
 /**
  * Material Design Color palette.
- *
+ * <p>
+ * The colors of the palette come from {@link MaterialPalette}, which is
+ * cheaper to use when only a few of them are needed, as loading this class
+ * creates all of them.
  *
  * @author bilux (i.bilux@gmail.com)
  */
 public class MaterialColor {
 
-    public static final Color RED__50 = Color.decode("#ffebee");
-    public static final Color RED__100 = Color.decode("#ffcdd2");
-    public static final Color RED__200 = Color.decode("#ef9a9a");
-    public static final Color RED_300 = Color.decode("#e57373");
-    public static final Color RED_400 = Color.decode("#ef5350");
-    public static final Color RED_500 = Color.decode("#f44336");
-    public static final Color RED_600 = Color.decode("#e53935");
-    public static final Color RED_700 = Color.decode("#d32f2f");
-    public static final Color RED_800 = Color.decode("#c62828");
-    public static final Color RED_900 = Color.decode("#b71c1c");
-    public static final Color REDA_100 = Color.decode("#ff8a80");
-    public static final Color REDA_200 = Color.decode("#ff5252");
-    public static final Color REDA_400 = Color.decode("#ff1744");
-    public static final Color REDA_700 = Color.decode("#d50000");
+    public static final Color RED__50 = MaterialPalette.getColor(MaterialPalette.RED, 50);
+    public static final Color RED__100 = MaterialPalette.getColor(MaterialPalette.RED, 100);
+    public static final Color RED__200 = MaterialPalette.getColor(MaterialPalette.RED, 200);
+    public static final Color RED_300 = MaterialPalette.getColor(MaterialPalette.RED, 300);
+    public static final Color RED_400 = MaterialPalette.getColor(MaterialPalette.RED, 400);
+    public static final Color RED_500 = MaterialPalette.getColor(MaterialPalette.RED, 500);
+    public static final Color RED_600 = MaterialPalette.getColor(MaterialPalette.RED, 600);
+    public static final Color RED_700 = MaterialPalette.getColor(MaterialPalette.RED, 700);
+    public static final Color RED_800 = MaterialPalette.getColor(MaterialPalette.RED, 800);
+    public static final Color RED_900 = MaterialPalette.getColor(MaterialPalette.RED, 900);
+    public static final Color REDA_100 = MaterialPalette.getColor(MaterialPalette.RED, MaterialPalette.A100);
+    public static final Color REDA_200 = MaterialPalette.getColor(MaterialPalette.RED, MaterialPalette.A200);
+    public static final Color REDA_400 = MaterialPalette.getColor(MaterialPalette.RED, MaterialPalette.A400);
+    public static final Color REDA_700 = MaterialPalette.getColor(MaterialPalette.RED, MaterialPalette.A700);
 
-    public static final Color PINK_50 = Color.decode("#fce4ec");
-    public static final Color PINK_100 = Color.decode("#f8bbd0");
-    public static final Color PINK_200 = Color.decode("#f48fb1");
-    public static final Color PINK_300 = Color.decode("#f06292");
-    public static final Color PINK_400 = Color.decode("#ec407a");
-    public static final Color PINK_500 = Color.decode("#e91e63");
-    public static final Color PINK_600 = Color.decode("#d81b60");
-    public static final Color PINK_700 = Color.decode("#c2185b");
-    public static final Color PINK_800 = Color.decode("#ad1457");
-    public static final Color PINK_900 = Color.decode("#880e4f");
-    public static final Color PINKA_100 = Color.decode("#ff80ab");
-    public static final Color PINKA_200 = Color.decode("#ff4081");
-    public static final Color PINKA_400 = Color.decode("#f50057");
-    public static final Color PINKA_700 = Color.decode("#c51162");
+    public static final Color PINK_50 = MaterialPalette.getColor(MaterialPalette.PINK, 50);
+    public static final Color PINK_100 = MaterialPalette.getColor(MaterialPalette.PINK, 100);
+    public static final Color PINK_200 = MaterialPalette.getColor(MaterialPalette.PINK, 200);
+    public static final Color PINK_300 = MaterialPalette.getColor(MaterialPalette.PINK, 300);
+    public static final Color PINK_400 = MaterialPalette.getColor(MaterialPalette.PINK, 400);
+    public static final Color PINK_500 = MaterialPalette.getColor(MaterialPalette.PINK, 500);
+    public static final Color PINK_600 = MaterialPalette.getColor(MaterialPalette.PINK, 600);
+    public static final Color PINK_700 = MaterialPalette.getColor(MaterialPalette.PINK, 700);
+    public static final Color PINK_800 = MaterialPalette.getColor(MaterialPalette.PINK, 800);
+    public static final Color PINK_900 = MaterialPalette.getColor(MaterialPalette.PINK, 900);
+    public static final Color PINKA_100 = MaterialPalette.getColor(MaterialPalette.PINK, MaterialPalette.A100);
+    public static final Color PINKA_200 = MaterialPalette.getColor(MaterialPalette.PINK, MaterialPalette.A200);
+    public static final Color PINKA_400 = MaterialPalette.getColor(MaterialPalette.PINK, MaterialPalette.A400);
+    public static final Color PINKA_700 = MaterialPalette.getColor(MaterialPalette.PINK, MaterialPalette.A700);
 
-    public static final Color PURPLE_50 = Color.decode("#f3e5f5");
-    public static final Color PURPLE_100 = Color.decode("#e1bee7");
-    public static final Color PURPLE_200 = Color.decode("#ce93d8");
-    public static final Color PURPLE_300 = Color.decode("#ba68c8");
-    public static final Color PURPLE_400 = Color.decode("#ab47bc");
-    public static final Color PURPLE_500 = Color.decode("#9c27b0");
-    public static final Color PURPLE_600 = Color.decode("#8e24aa");
-    public static final Color PURPLE_700 = Color.decode("#7b1fa2");
-    public static final Color PURPLE_800 = Color.decode("#6a1b9a");
-    public static final Color PURPLE_900 = Color.decode("#4a148c");
-    public static final Color PURPLEA_100 = Color.decode("#ea80fc");
-    public static final Color PURPLEA_200 = Color.decode("#e040fb");
-    public static final Color PURPLEA_400 = Color.decode("#d500f9");
-    public static final Color PURPLEA_700 = Color.decode("#aa00ff");
+    public static final Color PURPLE_50 = MaterialPalette.getColor(MaterialPalette.PURPLE, 50);
+    public static final Color PURPLE_100 = MaterialPalette.getColor(MaterialPalette.PURPLE, 100);
+    public static final Color PURPLE_200 = MaterialPalette.getColor(MaterialPalette.PURPLE, 200);
+    public static final Color PURPLE_300 = MaterialPalette.getColor(MaterialPalette.PURPLE, 300);
+    public static final Color PURPLE_400 = MaterialPalette.getColor(MaterialPalette.PURPLE, 400);
+    public static final Color PURPLE_500 = MaterialPalette.getColor(MaterialPalette.PURPLE, 500);
+    public static final Color PURPLE_600 = MaterialPalette.getColor(MaterialPalette.PURPLE, 600);
+    public static final Color PURPLE_700 = MaterialPalette.getColor(MaterialPalette.PURPLE, 700);
+    public static final Color PURPLE_800 = MaterialPalette.getColor(MaterialPalette.PURPLE, 800);
+    public static final Color PURPLE_900 = MaterialPalette.getColor(MaterialPalette.PURPLE, 900);
+    public static final Color PURPLEA_100 = MaterialPalette.getColor(MaterialPalette.PURPLE, MaterialPalette.A100);
+    public static final Color PURPLEA_200 = MaterialPalette.getColor(MaterialPalette.PURPLE, MaterialPalette.A200);
+    public static final Color PURPLEA_400 = MaterialPalette.getColor(MaterialPalette.PURPLE, MaterialPalette.A400);
+    public static final Color PURPLEA_700 = MaterialPalette.getColor(MaterialPalette.PURPLE, MaterialPalette.A700);
 
-    public static final Color DEEPPURPLE_50 = Color.decode("#ede7f6");
-    public static final Color DEEPPURPLE_100 = Color.decode("#d1c4e9");
-    public static final Color DEEPPURPLE_200 = Color.decode("#b39ddb");
-    public static final Color DEEPPURPLE_300 = Color.decode("#9575cd");
-    public static final Color DEEPPURPLE_400 = Color.decode("#7e57c2");
-    public static final Color DEEPPURPLE_500 = Color.decode("#673ab7");
-    public static final Color DEEPPURPLE_600 = Color.decode("#5e35b1");
-    public static final Color DEEPPURPLE_700 = Color.decode("#512da8");
-    public static final Color DEEPPURPLE_800 = Color.decode("#4527a0");
-    public static final Color DEEPPURPLE_900 = Color.decode("#311b92");
-    public static final Color DEEPPURPLEA_100 = Color.decode("#b388ff");
-    public static final Color DEEPPURPLEA_200 = Color.decode("#7c4dff");
-    public static final Color DEEPPURPLEA_400 = Color.decode("#651fff");
-    public static final Color DEEPPURPLEA_700 = Color.decode("#6200ea");
+    public static final Color DEEPPURPLE_50 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 50);
+    public static final Color DEEPPURPLE_100 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 100);
+    public static final Color DEEPPURPLE_200 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 200);
+    public static final Color DEEPPURPLE_300 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 300);
+    public static final Color DEEPPURPLE_400 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 400);
+    public static final Color DEEPPURPLE_500 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 500);
+    public static final Color DEEPPURPLE_600 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 600);
+    public static final Color DEEPPURPLE_700 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 700);
+    public static final Color DEEPPURPLE_800 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 800);
+    public static final Color DEEPPURPLE_900 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, 900);
+    public static final Color DEEPPURPLEA_100 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, MaterialPalette.A100);
+    public static final Color DEEPPURPLEA_200 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, MaterialPalette.A200);
+    public static final Color DEEPPURPLEA_400 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, MaterialPalette.A400);
+    public static final Color DEEPPURPLEA_700 = MaterialPalette.getColor(MaterialPalette.DEEPPURPLE, MaterialPalette.A700);
 
-    public static final Color INDIGO_50 = Color.decode("#e8eaf6");
-    public static final Color INDIGO_100 = Color.decode("#c5cae9");
-    public static final Color INDIGO_200 = Color.decode("#9fa8da");
-    public static final Color INDIGO_300 = Color.decode("#7986cb");
-    public static final Color INDIGO_400 = Color.decode("#5c6bc0");
-    public static final Color INDIGO_500 = Color.decode("#3f51b5");
-    public static final Color INDIGO_600 = Color.decode("#3949ab");
-    public static final Color INDIGO_700 = Color.decode("#303f9f");
-    public static final Color INDIGO_800 = Color.decode("#283593");
-    public static final Color INDIGO_900 = Color.decode("#1a237e");
-    public static final Color INDIGOA_100 = Color.decode("#8c9eff");
-    public static final Color INDIGOA_200 = Color.decode("#536dfe");
-    public static final Color INDIGOA_400 = Color.decode("#3d5afe");
-    public static final Color INDIGOA_700 = Color.decode("#304ffe");
+    public static final Color INDIGO_50 = MaterialPalette.getColor(MaterialPalette.INDIGO, 50);
+    public static final Color INDIGO_100 = MaterialPalette.getColor(MaterialPalette.INDIGO, 100);
+    public static final Color INDIGO_200 = MaterialPalette.getColor(MaterialPalette.INDIGO, 200);
+    public static final Color INDIGO_300 = MaterialPalette.getColor(MaterialPalette.INDIGO, 300);
+    public static final Color INDIGO_400 = MaterialPalette.getColor(MaterialPalette.INDIGO, 400);
+    public static final Color INDIGO_500 = MaterialPalette.getColor(MaterialPalette.INDIGO, 500);
+    public static final Color INDIGO_600 = MaterialPalette.getColor(MaterialPalette.INDIGO, 600);
+    public static final Color INDIGO_700 = MaterialPalette.getColor(MaterialPalette.INDIGO, 700);
+    public static final Color INDIGO_800 = MaterialPalette.getColor(MaterialPalette.INDIGO, 800);
+    public static final Color INDIGO_900 = MaterialPalette.getColor(MaterialPalette.INDIGO, 900);
+    public static final Color INDIGOA_100 = MaterialPalette.getColor(MaterialPalette.INDIGO, MaterialPalette.A100);
+    public static final Color INDIGOA_200 = MaterialPalette.getColor(MaterialPalette.INDIGO, MaterialPalette.A200);
+    public static final Color INDIGOA_400 = MaterialPalette.getColor(MaterialPalette.INDIGO, MaterialPalette.A400);
+    public static final Color INDIGOA_700 = MaterialPalette.getColor(MaterialPalette.INDIGO, MaterialPalette.A700);
 
-    public static final Color BLUE_50 = Color.decode("#e3f2fd");
-    public static final Color BLUE_100 = Color.decode("#bbdefb");
-    public static final Color BLUE_200 = Color.decode("#90caf9");
-    public static final Color BLUE_300 = Color.decode("#64b5f6");
-    public static final Color BLUE_400 = Color.decode("#42a5f5");
-    public static final Color BLUE_500 = Color.decode("#2196f3");
-    public static final Color BLUE_600 = Color.decode("#1e88e5");
-    public static final Color BLUE_700 = Color.decode("#1976d2");
-    public static final Color BLUE_800 = Color.decode("#1565c0");
-    public static final Color BLUE_900 = Color.decode("#0d47a1");
-    public static final Color BLUEA_100 = Color.decode("#82b1ff");
-    public static final Color BLUEA_200 = Color.decode("#448aff");
-    public static final Color BLUEA_400 = Color.decode("#2979ff");
-    public static final Color BLUEA_700 = Color.decode("#2962ff");
+    public static final Color BLUE_50 = MaterialPalette.getColor(MaterialPalette.BLUE, 50);
+    public static final Color BLUE_100 = MaterialPalette.getColor(MaterialPalette.BLUE, 100);
+    public static final Color BLUE_200 = MaterialPalette.getColor(MaterialPalette.BLUE, 200);
+    public static final Color BLUE_300 = MaterialPalette.getColor(MaterialPalette.BLUE, 300);
+    public static final Color BLUE_400 = MaterialPalette.getColor(MaterialPalette.BLUE, 400);
+    public static final Color BLUE_500 = MaterialPalette.getColor(MaterialPalette.BLUE, 500);
+    public static final Color BLUE_600 = MaterialPalette.getColor(MaterialPalette.BLUE, 600);
+    public static final Color BLUE_700 = MaterialPalette.getColor(MaterialPalette.BLUE, 700);
+    public static final Color BLUE_800 = MaterialPalette.getColor(MaterialPalette.BLUE, 800);
+    public static final Color BLUE_900 = MaterialPalette.getColor(MaterialPalette.BLUE, 900);
+    public static final Color BLUEA_100 = MaterialPalette.getColor(MaterialPalette.BLUE, MaterialPalette.A100);
+    public static final Color BLUEA_200 = MaterialPalette.getColor(MaterialPalette.BLUE, MaterialPalette.A200);
+    public static final Color BLUEA_400 = MaterialPalette.getColor(MaterialPalette.BLUE, MaterialPalette.A400);
+    public static final Color BLUEA_700 = MaterialPalette.getColor(MaterialPalette.BLUE, MaterialPalette.A700);
 
-    public static final Color LIGHTBLUE_50 = Color.decode("#e1f5fe");
-    public static final Color LIGHTBLUE_100 = Color.decode("#b3e5fc");
-    public static final Color LIGHTBLUE_200 = Color.decode("#81d4fa");
-    public static final Color LIGHTBLUE_300 = Color.decode("#4fc3f7");
-    public static final Color LIGHTBLUE_400 = Color.decode("#29b6f6");
-    public static final Color LIGHTBLUE_500 = Color.decode("#03a9f4");
-    public static final Color LIGHTBLUE_600 = Color.decode("#039be5");
-    public static final Color LIGHTBLUE_700 = Color.decode("#0288d1");
-    public static final Color LIGHTBLUE_800 = Color.decode("#0277bd");
-    public static final Color LIGHTBLUE_900 = Color.decode("#01579b");
-    public static final Color LIGHTBLUEA_100 = Color.decode("#80d8ff");
-    public static final Color LIGHTBLUEA_200 = Color.decode("#40c4ff");
-    public static final Color LIGHTBLUEA_400 = Color.decode("#00b0ff");
-    public static final Color LIGHTBLUEA_700 = Color.decode("#0091ea");
+    public static final Color LIGHTBLUE_50 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 50);
+    public static final Color LIGHTBLUE_100 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 100);
+    public static final Color LIGHTBLUE_200 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 200);
+    public static final Color LIGHTBLUE_300 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 300);
+    public static final Color LIGHTBLUE_400 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 400);
+    public static final Color LIGHTBLUE_500 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 500);
+    public static final Color LIGHTBLUE_600 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 600);
+    public static final Color LIGHTBLUE_700 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 700);
+    public static final Color LIGHTBLUE_800 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 800);
+    public static final Color LIGHTBLUE_900 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, 900);
+    public static final Color LIGHTBLUEA_100 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, MaterialPalette.A100);
+    public static final Color LIGHTBLUEA_200 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, MaterialPalette.A200);
+    public static final Color LIGHTBLUEA_400 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, MaterialPalette.A400);
+    public static final Color LIGHTBLUEA_700 = MaterialPalette.getColor(MaterialPalette.LIGHTBLUE, MaterialPalette.A700);
 
-    public static final Color CYAN_50 = Color.decode("#e0f7fa");
-    public static final Color CYAN_100 = Color.decode("#b2ebf2");
-    public static final Color CYAN_200 = Color.decode("#80deea");
-    public static final Color CYAN_300 = Color.decode("#4dd0e1");
-    public static final Color CYAN_400 = Color.decode("#26c6da");
-    public static final Color CYAN_500 = Color.decode("#00bcd4");
-    public static final Color CYAN_600 = Color.decode("#00acc1");
-    public static final Color CYAN_700 = Color.decode("#0097a7");
-    public static final Color CYAN_800 = Color.decode("#00838f");
-    public static final Color CYAN_900 = Color.decode("#006064");
-    public static final Color CYANA_100 = Color.decode("#84ffff");
-    public static final Color CYANA_200 = Color.decode("#18ffff");
-    public static final Color CYANA_400 = Color.decode("#00e5ff");
-    public static final Color CYANA_700 = Color.decode("#00b8d4");
+    public static final Color CYAN_50 = MaterialPalette.getColor(MaterialPalette.CYAN, 50);
+    public static final Color CYAN_100 = MaterialPalette.getColor(MaterialPalette.CYAN, 100);
+    public static final Color CYAN_200 = MaterialPalette.getColor(MaterialPalette.CYAN, 200);
+    public static final Color CYAN_300 = MaterialPalette.getColor(MaterialPalette.CYAN, 300);
+    public static final Color CYAN_400 = MaterialPalette.getColor(MaterialPalette.CYAN, 400);
+    public static final Color CYAN_500 = MaterialPalette.getColor(MaterialPalette.CYAN, 500);
+    public static final Color CYAN_600 = MaterialPalette.getColor(MaterialPalette.CYAN, 600);
+    public static final Color CYAN_700 = MaterialPalette.getColor(MaterialPalette.CYAN, 700);
+    public static final Color CYAN_800 = MaterialPalette.getColor(MaterialPalette.CYAN, 800);
+    public static final Color CYAN_900 = MaterialPalette.getColor(MaterialPalette.CYAN, 900);
+    public static final Color CYANA_100 = MaterialPalette.getColor(MaterialPalette.CYAN, MaterialPalette.A100);
+    public static final Color CYANA_200 = MaterialPalette.getColor(MaterialPalette.CYAN, MaterialPalette.A200);
+    public static final Color CYANA_400 = MaterialPalette.getColor(MaterialPalette.CYAN, MaterialPalette.A400);
+    public static final Color CYANA_700 = MaterialPalette.getColor(MaterialPalette.CYAN, MaterialPalette.A700);
 
-    public static final Color TEAL_50 = Color.decode("#e0f2f1");
-    public static final Color TEAL_100 = Color.decode("#b2dfdb");
-    public static final Color TEAL_200 = Color.decode("#80cbc4");
-    public static final Color TEAL_300 = Color.decode("#4db6ac");
-    public static final Color TEAL_400 = Color.decode("#26a69a");
-    public static final Color TEAL_500 = Color.decode("#009688");
-    public static final Color TEAL_600 = Color.decode("#00897b");
-    public static final Color TEAL_700 = Color.decode("#00796b");
-    public static final Color TEAL_800 = Color.decode("#00695c");
-    public static final Color TEAL_900 = Color.decode("#004d40");
-    public static final Color TEALA_100 = Color.decode("#a7ffeb");
-    public static final Color TEALA_200 = Color.decode("#64ffda");
-    public static final Color TEALA_400 = Color.decode("#1de9b6");
-    public static final Color TEALA_700 = Color.decode("#00bfa5");
+    public static final Color TEAL_50 = MaterialPalette.getColor(MaterialPalette.TEAL, 50);
+    public static final Color TEAL_100 = MaterialPalette.getColor(MaterialPalette.TEAL, 100);
+    public static final Color TEAL_200 = MaterialPalette.getColor(MaterialPalette.TEAL, 200);
+    public static final Color TEAL_300 = MaterialPalette.getColor(MaterialPalette.TEAL, 300);
+    public static final Color TEAL_400 = MaterialPalette.getColor(MaterialPalette.TEAL, 400);
+    public static final Color TEAL_500 = MaterialPalette.getColor(MaterialPalette.TEAL, 500);
+    public static final Color TEAL_600 = MaterialPalette.getColor(MaterialPalette.TEAL, 600);
+    public static final Color TEAL_700 = MaterialPalette.getColor(MaterialPalette.TEAL, 700);
+    public static final Color TEAL_800 = MaterialPalette.getColor(MaterialPalette.TEAL, 800);
+    public static final Color TEAL_900 = MaterialPalette.getColor(MaterialPalette.TEAL, 900);
+    public static final Color TEALA_100 = MaterialPalette.getColor(MaterialPalette.TEAL, MaterialPalette.A100);
+    public static final Color TEALA_200 = MaterialPalette.getColor(MaterialPalette.TEAL, MaterialPalette.A200);
+    public static final Color TEALA_400 = MaterialPalette.getColor(MaterialPalette.TEAL, MaterialPalette.A400);
+    public static final Color TEALA_700 = MaterialPalette.getColor(MaterialPalette.TEAL, MaterialPalette.A700);
 
-    public static final Color GREEN_50 = Color.decode("#e8f5e9");
-    public static final Color GREEN_100 = Color.decode("#c8e6c9");
-    public static final Color GREEN_200 = Color.decode("#a5d6a7");
-    public static final Color GREEN_300 = Color.decode("#81c784");
-    public static final Color GREEN_400 = Color.decode("#66bb6a");
-    public static final Color GREEN_500 = Color.decode("#4caf50");
-    public static final Color GREEN_600 = Color.decode("#43a047");
-    public static final Color GREEN_700 = Color.decode("#388e3c");
-    public static final Color GREEN_800 = Color.decode("#2e7d32");
-    public static final Color GREEN_900 = Color.decode("#1b5e20");
-    public static final Color GREENA_100 = Color.decode("#b9f6ca");
-    public static final Color GREENA_200 = Color.decode("#69f0ae");
-    public static final Color GREENA_400 = Color.decode("#00e676");
-    public static final Color GREENA_700 = Color.decode("#00c853");
+    public static final Color GREEN_50 = MaterialPalette.getColor(MaterialPalette.GREEN, 50);
+    public static final Color GREEN_100 = MaterialPalette.getColor(MaterialPalette.GREEN, 100);
+    public static final Color GREEN_200 = MaterialPalette.getColor(MaterialPalette.GREEN, 200);
+    public static final Color GREEN_300 = MaterialPalette.getColor(MaterialPalette.GREEN, 300);
+    public static final Color GREEN_400 = MaterialPalette.getColor(MaterialPalette.GREEN, 400);
+    public static final Color GREEN_500 = MaterialPalette.getColor(MaterialPalette.GREEN, 500);
+    public static final Color GREEN_600 = MaterialPalette.getColor(MaterialPalette.GREEN, 600);
+    public static final Color GREEN_700 = MaterialPalette.getColor(MaterialPalette.GREEN, 700);
+    public static final Color GREEN_800 = MaterialPalette.getColor(MaterialPalette.GREEN, 800);
+    public static final Color GREEN_900 = MaterialPalette.getColor(MaterialPalette.GREEN, 900);
+    public static final Color GREENA_100 = MaterialPalette.getColor(MaterialPalette.GREEN, MaterialPalette.A100);
+    public static final Color GREENA_200 = MaterialPalette.getColor(MaterialPalette.GREEN, MaterialPalette.A200);
+    public static final Color GREENA_400 = MaterialPalette.getColor(MaterialPalette.GREEN, MaterialPalette.A400);
+    public static final Color GREENA_700 = MaterialPalette.getColor(MaterialPalette.GREEN, MaterialPalette.A700);
 
-    public static final Color LIGHTGREEN_50 = Color.decode("#f1f8e9");
-    public static final Color LIGHTGREEN_100 = Color.decode("#dcedc8");
-    public static final Color LIGHTGREEN_200 = Color.decode("#c5e1a5");
-    public static final Color LIGHTGREEN_300 = Color.decode("#aed581");
-    public static final Color LIGHTGREEN_400 = Color.decode("#9ccc65");
-    public static final Color LIGHTGREEN_500 = Color.decode("#8bc34a");
-    public static final Color LIGHTGREEN_600 = Color.decode("#7cb342");
-    public static final Color LIGHTGREEN_700 = Color.decode("#689f38");
-    public static final Color LIGHTGREEN_800 = Color.decode("#558b2f");
-    public static final Color LIGHTGREEN_900 = Color.decode("#33691e");
-    public static final Color LIGHTGREENA_100 = Color.decode("#ccff90");
-    public static final Color LIGHTGREENA_200 = Color.decode("#b2ff59");
-    public static final Color LIGHTGREENA_400 = Color.decode("#76ff03");
-    public static final Color LIGHTGREENA_700 = Color.decode("#64dd17");
+    public static final Color LIGHTGREEN_50 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 50);
+    public static final Color LIGHTGREEN_100 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 100);
+    public static final Color LIGHTGREEN_200 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 200);
+    public static final Color LIGHTGREEN_300 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 300);
+    public static final Color LIGHTGREEN_400 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 400);
+    public static final Color LIGHTGREEN_500 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 500);
+    public static final Color LIGHTGREEN_600 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 600);
+    public static final Color LIGHTGREEN_700 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 700);
+    public static final Color LIGHTGREEN_800 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 800);
+    public static final Color LIGHTGREEN_900 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, 900);
+    public static final Color LIGHTGREENA_100 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, MaterialPalette.A100);
+    public static final Color LIGHTGREENA_200 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, MaterialPalette.A200);
+    public static final Color LIGHTGREENA_400 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, MaterialPalette.A400);
+    public static final Color LIGHTGREENA_700 = MaterialPalette.getColor(MaterialPalette.LIGHTGREEN, MaterialPalette.A700);
 
-    public static final Color LIME_50 = Color.decode("#f9fbe7");
-    public static final Color LIME_100 = Color.decode("#f0f4c3");
-    public static final Color LIME_200 = Color.decode("#e6ee9c");
-    public static final Color LIME_300 = Color.decode("#dce775");
-    public static final Color LIME_400 = Color.decode("#d4e157");
-    public static final Color LIME_500 = Color.decode("#cddc39");
-    public static final Color LIME_600 = Color.decode("#c0ca33");
-    public static final Color LIME_700 = Color.decode("#afb42b");
-    public static final Color LIME_800 = Color.decode("#9e9d24");
-    public static final Color LIME_900 = Color.decode("#827717");
-    public static final Color LIMEA_100 = Color.decode("#f4ff81");
-    public static final Color LIMEA_200 = Color.decode("#eeff41");
-    public static final Color LIMEA_400 = Color.decode("#c6ff00");
-    public static final Color LIMEA_700 = Color.decode("#aeea00");
+    public static final Color LIME_50 = MaterialPalette.getColor(MaterialPalette.LIME, 50);
+    public static final Color LIME_100 = MaterialPalette.getColor(MaterialPalette.LIME, 100);
+    public static final Color LIME_200 = MaterialPalette.getColor(MaterialPalette.LIME, 200);
+    public static final Color LIME_300 = MaterialPalette.getColor(MaterialPalette.LIME, 300);
+    public static final Color LIME_400 = MaterialPalette.getColor(MaterialPalette.LIME, 400);
+    public static final Color LIME_500 = MaterialPalette.getColor(MaterialPalette.LIME, 500);
+    public static final Color LIME_600 = MaterialPalette.getColor(MaterialPalette.LIME, 600);
+    public static final Color LIME_700 = MaterialPalette.getColor(MaterialPalette.LIME, 700);
+    public static final Color LIME_800 = MaterialPalette.getColor(MaterialPalette.LIME, 800);
+    public static final Color LIME_900 = MaterialPalette.getColor(MaterialPalette.LIME, 900);
+    public static final Color LIMEA_100 = MaterialPalette.getColor(MaterialPalette.LIME, MaterialPalette.A100);
+    public static final Color LIMEA_200 = MaterialPalette.getColor(MaterialPalette.LIME, MaterialPalette.A200);
+    public static final Color LIMEA_400 = MaterialPalette.getColor(MaterialPalette.LIME, MaterialPalette.A400);
+    public static final Color LIMEA_700 = MaterialPalette.getColor(MaterialPalette.LIME, MaterialPalette.A700);
 
-    public static final Color YELLOW_50 = Color.decode("#fffde7");
-    public static final Color YELLOW_100 = Color.decode("#fff9c4");
-    public static final Color YELLOW_200 = Color.decode("#fff59d");
-    public static final Color YELLOW_300 = Color.decode("#fff176");
-    public static final Color YELLOW_400 = Color.decode("#ffee58");
-    public static final Color YELLOW_500 = Color.decode("#ffeb3b");
-    public static final Color YELLOW_600 = Color.decode("#fdd835");
-    public static final Color YELLOW_700 = Color.decode("#fbc02d");
-    public static final Color YELLOW_800 = Color.decode("#f9a825");
-    public static final Color YELLOW_900 = Color.decode("#f57f17");
-    public static final Color YELLOWA_100 = Color.decode("#ffff8d");
-    public static final Color YELLOWA_200 = Color.decode("#ffff00");
-    public static final Color YELLOWA_400 = Color.decode("#ffea00");
-    public static final Color YELLOWA_700 = Color.decode("#ffd600");
+    public static final Color YELLOW_50 = MaterialPalette.getColor(MaterialPalette.YELLOW, 50);
+    public static final Color YELLOW_100 = MaterialPalette.getColor(MaterialPalette.YELLOW, 100);
+    public static final Color YELLOW_200 = MaterialPalette.getColor(MaterialPalette.YELLOW, 200);
+    public static final Color YELLOW_300 = MaterialPalette.getColor(MaterialPalette.YELLOW, 300);
+    public static final Color YELLOW_400 = MaterialPalette.getColor(MaterialPalette.YELLOW, 400);
+    public static final Color YELLOW_500 = MaterialPalette.getColor(MaterialPalette.YELLOW, 500);
+    public static final Color YELLOW_600 = MaterialPalette.getColor(MaterialPalette.YELLOW, 600);
+    public static final Color YELLOW_700 = MaterialPalette.getColor(MaterialPalette.YELLOW, 700);
+    public static final Color YELLOW_800 = MaterialPalette.getColor(MaterialPalette.YELLOW, 800);
+    public static final Color YELLOW_900 = MaterialPalette.getColor(MaterialPalette.YELLOW, 900);
+    public static final Color YELLOWA_100 = MaterialPalette.getColor(MaterialPalette.YELLOW, MaterialPalette.A100);
+    public static final Color YELLOWA_200 = MaterialPalette.getColor(MaterialPalette.YELLOW, MaterialPalette.A200);
+    public static final Color YELLOWA_400 = MaterialPalette.getColor(MaterialPalette.YELLOW, MaterialPalette.A400);
+    public static final Color YELLOWA_700 = MaterialPalette.getColor(MaterialPalette.YELLOW, MaterialPalette.A700);
 
-    public static final Color AMBER_50 = Color.decode("#fff8e1");
-    public static final Color AMBER_100 = Color.decode("#ffecb3");
-    public static final Color AMBER_200 = Color.decode("#ffe082");
-    public static final Color AMBER_300 = Color.decode("#ffd54f");
-    public static final Color AMBER_400 = Color.decode("#ffca28");
-    public static final Color AMBER_500 = Color.decode("#ffc107");
-    public static final Color AMBER_600 = Color.decode("#ffb300");
-    public static final Color AMBER_700 = Color.decode("#ffa000");
-    public static final Color AMBER_800 = Color.decode("#ff8f00");
-    public static final Color AMBER_900 = Color.decode("#ff6f00");
-    public static final Color AMBERA_100 = Color.decode("#ffe57f");
-    public static final Color AMBERA_200 = Color.decode("#ffd740");
-    public static final Color AMBERA_400 = Color.decode("#ffc400");
-    public static final Color AMBERA_700 = Color.decode("#ffab00");
+    public static final Color AMBER_50 = MaterialPalette.getColor(MaterialPalette.AMBER, 50);
+    public static final Color AMBER_100 = MaterialPalette.getColor(MaterialPalette.AMBER, 100);
+    public static final Color AMBER_200 = MaterialPalette.getColor(MaterialPalette.AMBER, 200);
+    public static final Color AMBER_300 = MaterialPalette.getColor(MaterialPalette.AMBER, 300);
+    public static final Color AMBER_400 = MaterialPalette.getColor(MaterialPalette.AMBER, 400);
+    public static final Color AMBER_500 = MaterialPalette.getColor(MaterialPalette.AMBER, 500);
+    public static final Color AMBER_600 = MaterialPalette.getColor(MaterialPalette.AMBER, 600);
+    public static final Color AMBER_700 = MaterialPalette.getColor(MaterialPalette.AMBER, 700);
+    public static final Color AMBER_800 = MaterialPalette.getColor(MaterialPalette.AMBER, 800);
+    public static final Color AMBER_900 = MaterialPalette.getColor(MaterialPalette.AMBER, 900);
+    public static final Color AMBERA_100 = MaterialPalette.getColor(MaterialPalette.AMBER, MaterialPalette.A100);
+    public static final Color AMBERA_200 = MaterialPalette.getColor(MaterialPalette.AMBER, MaterialPalette.A200);
+    public static final Color AMBERA_400 = MaterialPalette.getColor(MaterialPalette.AMBER, MaterialPalette.A400);
+    public static final Color AMBERA_700 = MaterialPalette.getColor(MaterialPalette.AMBER, MaterialPalette.A700);
 
-    public static final Color ORANGE_50 = Color.decode("#fff3e0");
-    public static final Color ORANGE_100 = Color.decode("#ffe0b2");
-    public static final Color ORANGE_200 = Color.decode("#ffcc80");
-    public static final Color ORANGE_300 = Color.decode("#ffb74d");
-    public static final Color ORANGE_400 = Color.decode("#ffa726");
-    public static final Color ORANGE_500 = Color.decode("#ff9800");
-    public static final Color ORANGE_600 = Color.decode("#fb8c00");
-    public static final Color ORANGE_700 = Color.decode("#f57c00");
-    public static final Color ORANGE_800 = Color.decode("#ef6c00");
-    public static final Color ORANGE_900 = Color.decode("#e65100");
-    public static final Color ORANGEA_100 = Color.decode("#ffd180");
-    public static final Color ORANGEA_200 = Color.decode("#ffab40");
-    public static final Color ORANGEA_400 = Color.decode("#ff9100");
-    public static final Color ORANGEA_700 = Color.decode("#ff6d00");
+    public static final Color ORANGE_50 = MaterialPalette.getColor(MaterialPalette.ORANGE, 50);
+    public static final Color ORANGE_100 = MaterialPalette.getColor(MaterialPalette.ORANGE, 100);
+    public static final Color ORANGE_200 = MaterialPalette.getColor(MaterialPalette.ORANGE, 200);
+    public static final Color ORANGE_300 = MaterialPalette.getColor(MaterialPalette.ORANGE, 300);
+    public static final Color ORANGE_400 = MaterialPalette.getColor(MaterialPalette.ORANGE, 400);
+    public static final Color ORANGE_500 = MaterialPalette.getColor(MaterialPalette.ORANGE, 500);
+    public static final Color ORANGE_600 = MaterialPalette.getColor(MaterialPalette.ORANGE, 600);
+    public static final Color ORANGE_700 = MaterialPalette.getColor(MaterialPalette.ORANGE, 700);
+    public static final Color ORANGE_800 = MaterialPalette.getColor(MaterialPalette.ORANGE, 800);
+    public static final Color ORANGE_900 = MaterialPalette.getColor(MaterialPalette.ORANGE, 900);
+    public static final Color ORANGEA_100 = MaterialPalette.getColor(MaterialPalette.ORANGE, MaterialPalette.A100);
+    public static final Color ORANGEA_200 = MaterialPalette.getColor(MaterialPalette.ORANGE, MaterialPalette.A200);
+    public static final Color ORANGEA_400 = MaterialPalette.getColor(MaterialPalette.ORANGE, MaterialPalette.A400);
+    public static final Color ORANGEA_700 = MaterialPalette.getColor(MaterialPalette.ORANGE, MaterialPalette.A700);
 
-    public static final Color DEEPORANGE_50 = Color.decode("#fbe9e7");
-    public static final Color DEEPORANGE_100 = Color.decode("#ffccbc");
-    public static final Color DEEPORANGE_200 = Color.decode("#ffab91");
-    public static final Color DEEPORANGE_300 = Color.decode("#ff8a65");
-    public static final Color DEEPORANGE_400 = Color.decode("#ff7043");
-    public static final Color DEEPORANGE_500 = Color.decode("#ff5722");
-    public static final Color DEEPORANGE_600 = Color.decode("#f4511e");
-    public static final Color DEEPORANGE_700 = Color.decode("#e64a19");
-    public static final Color DEEPORANGE_800 = Color.decode("#d84315");
-    public static final Color DEEPORANGE_900 = Color.decode("#bf360c");
-    public static final Color DEEPORANGEA_100 = Color.decode("#ff9e80");
-    public static final Color DEEPORANGEA_200 = Color.decode("#ff6e40");
-    public static final Color DEEPORANGEA_400 = Color.decode("#ff3d00");
-    public static final Color DEEPORANGEA_700 = Color.decode("#dd2c00");
+    public static final Color DEEPORANGE_50 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 50);
+    public static final Color DEEPORANGE_100 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 100);
+    public static final Color DEEPORANGE_200 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 200);
+    public static final Color DEEPORANGE_300 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 300);
+    public static final Color DEEPORANGE_400 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 400);
+    public static final Color DEEPORANGE_500 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 500);
+    public static final Color DEEPORANGE_600 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 600);
+    public static final Color DEEPORANGE_700 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 700);
+    public static final Color DEEPORANGE_800 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 800);
+    public static final Color DEEPORANGE_900 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, 900);
+    public static final Color DEEPORANGEA_100 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, MaterialPalette.A100);
+    public static final Color DEEPORANGEA_200 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, MaterialPalette.A200);
+    public static final Color DEEPORANGEA_400 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, MaterialPalette.A400);
+    public static final Color DEEPORANGEA_700 = MaterialPalette.getColor(MaterialPalette.DEEPORANGE, MaterialPalette.A700);
 
-    public static final Color BROWN_50 = Color.decode("#efebe9");
-    public static final Color BROWN_100 = Color.decode("#d7ccc8");
-    public static final Color BROWN_200 = Color.decode("#bcaaa4");
-    public static final Color BROWN_300 = Color.decode("#a1887f");
-    public static final Color BROWN_400 = Color.decode("#8d6e63");
-    public static final Color BROWN_500 = Color.decode("#795548");
-    public static final Color BROWN_600 = Color.decode("#6d4c41");
-    public static final Color BROWN_700 = Color.decode("#5d4037");
-    public static final Color BROWN_800 = Color.decode("#4e342e");
-    public static final Color BROWN_900 = Color.decode("#3e2723");
+    public static final Color BROWN_50 = MaterialPalette.getColor(MaterialPalette.BROWN, 50);
+    public static final Color BROWN_100 = MaterialPalette.getColor(MaterialPalette.BROWN, 100);
+    public static final Color BROWN_200 = MaterialPalette.getColor(MaterialPalette.BROWN, 200);
+    public static final Color BROWN_300 = MaterialPalette.getColor(MaterialPalette.BROWN, 300);
+    public static final Color BROWN_400 = MaterialPalette.getColor(MaterialPalette.BROWN, 400);
+    public static final Color BROWN_500 = MaterialPalette.getColor(MaterialPalette.BROWN, 500);
+    public static final Color BROWN_600 = MaterialPalette.getColor(MaterialPalette.BROWN, 600);
+    public static final Color BROWN_700 = MaterialPalette.getColor(MaterialPalette.BROWN, 700);
+    public static final Color BROWN_800 = MaterialPalette.getColor(MaterialPalette.BROWN, 800);
+    public static final Color BROWN_900 = MaterialPalette.getColor(MaterialPalette.BROWN, 900);
 
-    public static final Color BLUEGREY_50 = Color.decode("#eceff1");
-    public static final Color BLUEGREY_100 = Color.decode("#cfd8dc");
-    public static final Color BLUEGREY_200 = Color.decode("#b0bec5");
-    public static final Color BLUEGREY_300 = Color.decode("#90a4ae");
-    public static final Color BLUEGREY_400 = Color.decode("#78909c");
-    public static final Color BLUEGREY_500 = Color.decode("#607d8b");
-    public static final Color BLUEGREY_600 = Color.decode("#546e7a");
-    public static final Color BLUEGREY_700 = Color.decode("#455a64");
-    public static final Color BLUEGREY_800 = Color.decode("#37474f");
-    public static final Color BLUEGREY_900 = Color.decode("#263238");
+    public static final Color BLUEGREY_50 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 50);
+    public static final Color BLUEGREY_100 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 100);
+    public static final Color BLUEGREY_200 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 200);
+    public static final Color BLUEGREY_300 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 300);
+    public static final Color BLUEGREY_400 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 400);
+    public static final Color BLUEGREY_500 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 500);
+    public static final Color BLUEGREY_600 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 600);
+    public static final Color BLUEGREY_700 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 700);
+    public static final Color BLUEGREY_800 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 800);
+    public static final Color BLUEGREY_900 = MaterialPalette.getColor(MaterialPalette.BLUEGREY, 900);
 
-    public static final Color GREY_50 = Color.decode("#fafafa");
-    public static final Color GREY_100 = Color.decode("#f5f5f5");
-    public static final Color GREY_200 = Color.decode("#eeeeee");
-    public static final Color GREY_300 = Color.decode("#e0e0e0");
-    public static final Color GREY_400 = Color.decode("#bdbdbd");
-    public static final Color GREY_500 = Color.decode("#9e9e9e");
-    public static final Color GREY_600 = Color.decode("#757575");
-    public static final Color GREY_700 = Color.decode("#616161");
-    public static final Color GREY_800 = Color.decode("#424242");
-    public static final Color GREY_850 = Color.decode("#313131");
-    public static final Color GREY_900 = Color.decode("#212121");
+    public static final Color GREY_50 = MaterialPalette.getColor(MaterialPalette.GREY, 50);
+    public static final Color GREY_100 = MaterialPalette.getColor(MaterialPalette.GREY, 100);
+    public static final Color GREY_200 = MaterialPalette.getColor(MaterialPalette.GREY, 200);
+    public static final Color GREY_300 = MaterialPalette.getColor(MaterialPalette.GREY, 300);
+    public static final Color GREY_400 = MaterialPalette.getColor(MaterialPalette.GREY, 400);
+    public static final Color GREY_500 = MaterialPalette.getColor(MaterialPalette.GREY, 500);
+    public static final Color GREY_600 = MaterialPalette.getColor(MaterialPalette.GREY, 600);
+    public static final Color GREY_700 = MaterialPalette.getColor(MaterialPalette.GREY, 700);
+    public static final Color GREY_800 = MaterialPalette.getColor(MaterialPalette.GREY, 800);
+    public static final Color GREY_850 = MaterialPalette.getColor(MaterialPalette.GREY, 850);
+    public static final Color GREY_900 = MaterialPalette.getColor(MaterialPalette.GREY, 900);
 
     public static final Color BLACK = Color.BLACK;
     public static final Color WHITE = Color.WHITE;
 
-    public static final Color TRANSPARENT = new Color(0, 0, 0, 0);
+    public static final Color TRANSPARENT = new Color(MaterialPalette.TRANSPARENT_ARGB, true);
     public static final Color FULLBLACK = Color.BLACK;
-    public static final Color DARK_BLACK = new Color(0, 0, 0, 0.87f);
-    public static final Color LIGHT_BLACK = new Color(0, 0, 0, 0.54f);
-    public static final Color MIN_BLACK = new Color(0, 0, 0, 0.26f);
-    public static final Color FAINT_BLACK = new Color(0, 0, 0, 0.12f);
+    public static final Color DARK_BLACK = new Color(MaterialPalette.DARK_BLACK_ARGB, true);
+    public static final Color LIGHT_BLACK = new Color(MaterialPalette.LIGHT_BLACK_ARGB, true);
+    public static final Color MIN_BLACK = new Color(MaterialPalette.MIN_BLACK_ARGB, true);
+    public static final Color FAINT_BLACK = new Color(MaterialPalette.FAINT_BLACK_ARGB, true);
     public static final Color FULLWHITE = Color.WHITE;
-    public static final Color DARK_WHITE = new Color(1, 1, 1, 0.87f);
-    public static final Color LIGHT_WHITE = new Color(1, 1, 1, 0.54f);
+    public static final Color DARK_WHITE = new Color(MaterialPalette.DARK_WHITE_ARGB, true);
+    public static final Color LIGHT_WHITE = new Color(MaterialPalette.LIGHT_WHITE_ARGB, true);
 }
@@ -0,0 +1,186 @@
+package com.hq.swingmaterialdesign.materialdesign.resource;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.swing.Icon;
+
+/**
+ * An {@link Icon} showing a glyph of the Material Icon set, e.g.
+ * {@code new MaterialIcon(MaterialIcons.CLOSE, 20, Color.WHITE)}.
+ * <p>
+ * Glyphs are rasterised once per codepoint, size, color and display scale
+ * into a shared cache, bounded by the amount of bytes held by its images, so
+ * painting an icon only blits an image instead of shaping and rasterising
+ * text. On HiDPI displays the glyph is rasterised at the scale of the device,
+ * so it stays sharp.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public class MaterialIcon implements Icon {
+
+    private static final LinkedHashMap<GlyphKey, BufferedImage> GLYPHS = new LinkedHashMap<>(64, 0.75f, true);
+    private static final GlyphKey LOOKUP_KEY = new GlyphKey();
+    private static long maxCacheBytes = 4 * 1024 * 1024;
+    private static long cacheBytes;
+
+    private final char codepoint;
+    private final float size;
+    private final Color color;
+    private final int iconSize;
+
+    /**
+     * Creates a new icon.
+     *
+     * @param codepoint the glyph of the icon, e.g. {@link MaterialIcons#CLOSE}
+     * @param size the size of the icon, in points
+     * @param color the color of the icon
+     */
+    public MaterialIcon(char codepoint, float size, Color color) {
+        this.codepoint = codepoint;
+        this.size = size;
+        this.color = color;
+        this.iconSize = (int) Math.ceil(size);
+    }
+
+    public char getCodepoint() {
+        return codepoint;
+    }
+
+    public float getSize() {
+        return size;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void paintIcon(Component c, Graphics g, int x, int y) {
+        AffineTransform transform = ((Graphics2D) g).getTransform();
+        float scale = (float) Math.max(1.0, Math.max(Math.abs(transform.getScaleX()), Math.abs(transform.getScaleY())));
+        g.drawImage(getGlyph(codepoint, size, color.getRGB(), scale), x, y, iconSize, iconSize, null);
+    }
+
+    @Override
+    public int getIconWidth() {
+        return iconSize;
+    }
+
+    @Override
+    public int getIconHeight() {
+        return iconSize;
+    }
+
+    /**
+     * Sets the maximum amount of bytes held by the cached glyphs of all the
+     * icons, evicting the least recently used glyphs if needed.
+     *
+     * @param maxBytes the capacity of the glyph cache, in bytes
+     */
+    public static synchronized void setMaxCacheBytes(long maxBytes) {
+        maxCacheBytes = maxBytes;
+        trim();
+    }
+
+    /**
+     * Gets the maximum amount of bytes held by the cached glyphs of all the
+     * icons.
+     *
+     * @return the capacity of the glyph cache, in bytes
+     */
+    public static synchronized long getMaxCacheBytes() {
+        return maxCacheBytes;
+    }
+
+    /**
+     * Gets the amount of bytes currently held by the cached glyphs.
+     *
+     * @return the size of the glyph cache, in bytes
+     */
+    public static synchronized long getCacheBytes() {
+        return cacheBytes;
+    }
+
+    /**
+     * Removes all the cached glyphs.
+     */
+    public static synchronized void clearCache() {
+        GLYPHS.clear();
+        cacheBytes = 0;
+    }
+
+    private static synchronized BufferedImage getGlyph(char codepoint, float size, int argb, float scale) {
+        BufferedImage glyph = GLYPHS.get(LOOKUP_KEY.set(codepoint, size, argb, scale));
+        if (glyph == null) {
+            glyph = renderGlyph(codepoint, size * scale, new Color(argb, true));
+            GLYPHS.put(new GlyphKey().set(codepoint, size, argb, scale), glyph);
+            cacheBytes += (long) glyph.getWidth() * glyph.getHeight() * 4;
+            trim();
+        }
+        return glyph;
+    }
+
+    private static BufferedImage renderGlyph(char codepoint, float pixelSize, Color color) {
+        int imageSize = Math.max(1, (int) Math.ceil(pixelSize));
+        BufferedImage glyph = new BufferedImage(imageSize, imageSize, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = glyph.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        g.setFont(FontCache.derive(MaterialIcons.ICON_FONT, pixelSize));
+        g.setColor(color);
+        FontMetrics metrics = g.getFontMetrics();
+        String text = String.valueOf(codepoint);
+        int x = (imageSize - metrics.stringWidth(text)) / 2;
+        int y = (imageSize - metrics.getAscent() - metrics.getDescent()) / 2 + metrics.getAscent();
+        g.drawString(text, x, y);
+        g.dispose();
+        return glyph;
+    }
+
+    private static void trim() {
+        Iterator<Map.Entry<GlyphKey, BufferedImage>> eldest = GLYPHS.entrySet().iterator();
+        while (cacheBytes > maxCacheBytes && eldest.hasNext()) {
+            BufferedImage glyph = eldest.next().getValue();
+            cacheBytes -= (long) glyph.getWidth() * glyph.getHeight() * 4;
+            eldest.remove();
+        }
+    }
+
+    private static final class GlyphKey {
+
+        private char codepoint;
+        private int sizeBits;
+        private int argb;
+        private int scaleBits;
+
+        GlyphKey set(char codepoint, float size, int argb, float scale) {
+            this.codepoint = codepoint;
+            this.sizeBits = Float.floatToIntBits(size);
+            this.argb = argb;
+            this.scaleBits = Float.floatToIntBits(scale);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GlyphKey)) {
+                return false;
+            }
+            GlyphKey other = (GlyphKey) obj;
+            return codepoint == other.codepoint && sizeBits == other.sizeBits
+                    && argb == other.argb && scaleBits == other.scaleBits;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = codepoint;
+            hash = 31 * hash + sizeBits;
+            hash = 31 * hash + argb;
+            return 31 * hash + scaleBits;
+        }
+    }
+}
@@ -0,0 +1,689 @@
+package com.hq.swingmaterialdesign.materialdesign.resource;
+
+/**
+ * A name to codepoint index of the Material Icon set, and its reverse. Icons
+ * can be resolved by the name of their constant in {@link MaterialIcons}, e.g.
+ * {@code "ACCESS_ALARM"} or {@code "access_alarm"}, which is handy for icons
+ * coming from configuration files or server-driven layouts, without using
+ * reflection. Lookups are binary searches over sorted arrays and don't
+ * allocate.
+ * <p>
+ * The arrays below are generated from the constants of {@link MaterialIcons}
+ * by {@code tools/src/.../MaterialIconNamesGenerator}. The build fails when
+ * they are out of date, and {@code ant icon-names} regenerates them.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class MaterialIconNames {
+
+    /**
+     * Names of the constants, sorted.
+     */
+    private static final String[] NAMES = {
+            "ACCESSIBILITY", "ACCESSIBLE", "ACCESS_ALARM", "ACCESS_ALARMS",
+            "ACCESS_TIME", "ACCOUNT_BALANCE", "ACCOUNT_BALANCE_WALLET", "ACCOUNT_BOX",
+            "ACCOUNT_CIRCLE", "AC_UNIT", "ADB", "ADD",
+            "ADD_ALARM", "ADD_ALERT", "ADD_A_PHOTO", "ADD_BOX",
+            "ADD_CIRCLE", "ADD_CIRCLE_OUTLINE", "ADD_LOCATION", "ADD_SHOPPING_CART",
+            "ADD_TO_PHOTOS", "ADD_TO_QUEUE", "ADJUST", "AIRLINE_SEAT_FLAT",
+            "AIRLINE_SEAT_FLAT_ANGLED", "AIRLINE_SEAT_INDIVIDUAL_SUITE", "AIRLINE_SEAT_LEGROOM_EXTRA", "AIRLINE_SEAT_LEGROOM_NORMAL",
+            "AIRLINE_SEAT_LEGROOM_REDUCED", "AIRLINE_SEAT_RECLINE_EXTRA", "AIRLINE_SEAT_RECLINE_NORMAL", "AIRPLANEMODE_ACTIVE",
+            "AIRPLANEMODE_INACTIVE", "AIRPLAY", "AIRPORT_SHUTTLE", "ALARM",
+            "ALARM_ADD", "ALARM_OFF", "ALARM_ON", "ALBUM",
+            "ALL_INCLUSIVE", "ALL_OUT", "ANDROID", "ANNOUNCEMENT",
+            "APPS", "ARCHIVE", "ARROW_BACK", "ARROW_DOWNWARD",
+            "ARROW_DROP_DOWN", "ARROW_DROP_DOWN_CIRCLE", "ARROW_DROP_UP", "ARROW_FORWARD",
+            "ARROW_UPWARD", "ART_TRACK", "ASPECT_RATIO", "ASSESSMENT",
+            "ASSIGNMENT", "ASSIGNMENT_IND", "ASSIGNMENT_LATE", "ASSIGNMENT_RETURN",
+            "ASSIGNMENT_RETURNED", "ASSIGNMENT_TURNED_IN", "ASSISTANT", "ASSISTANT_PHOTO",
+            "ATTACHMENT", "ATTACH_FILE", "ATTACH_MONEY", "AUDIOTRACK",
+            "AUTORENEW", "AV_TIMER", "A_3D_ROTATION", "BACKSPACE",
+            "BACKUP", "BATTERY_ALERT", "BATTERY_CHARGING_FULL", "BATTERY_FULL",
+            "BATTERY_STD", "BATTERY_UNKNOWN", "BEACH_ACCESS", "BEENHERE",
+            "BLOCK", "BLUETOOTH", "BLUETOOTH_AUDIO", "BLUETOOTH_CONNECTED",
+            "BLUETOOTH_DISABLED", "BLUETOOTH_SEARCHING", "BLUR_CIRCULAR", "BLUR_LINEAR",
+            "BLUR_OFF", "BLUR_ON", "BOOK", "BOOKMARK",
+            "BOOKMARK_BORDER", "BORDER_ALL", "BORDER_BOTTOM", "BORDER_CLEAR",
+            "BORDER_COLOR", "BORDER_HORIZONTAL", "BORDER_INNER", "BORDER_LEFT",
+            "BORDER_OUTER", "BORDER_RIGHT", "BORDER_STYLE", "BORDER_TOP",
+            "BORDER_VERTICAL", "BRANDING_WATERMARK", "BRIGHTNESS_1", "BRIGHTNESS_2",
+            "BRIGHTNESS_3", "BRIGHTNESS_4", "BRIGHTNESS_5", "BRIGHTNESS_6",
+            "BRIGHTNESS_7", "BRIGHTNESS_AUTO", "BRIGHTNESS_HIGH", "BRIGHTNESS_LOW",
+            "BRIGHTNESS_MEDIUM", "BROKEN_IMAGE", "BRUSH", "BUBBLE_CHART",
+            "BUG_REPORT", "BUILD", "BURST_MODE", "BUSINESS",
+            "BUSINESS_CENTER", "CACHED", "CAKE", "CALL",
+            "CALL_END", "CALL_MADE", "CALL_MERGE", "CALL_MISSED",
+            "CALL_MISSED_OUTGOING", "CALL_RECEIVED", "CALL_SPLIT", "CALL_TO_ACTION",
+            "CAMERA", "CAMERA_ALT", "CAMERA_ENHANCE", "CAMERA_FRONT",
+            "CAMERA_REAR", "CAMERA_ROLL", "CANCEL", "CARD_GIFTCARD",
+            "CARD_MEMBERSHIP", "CARD_TRAVEL", "CASINO", "CAST",
+            "CAST_CONNECTED", "CENTER_FOCUS_STRONG", "CENTER_FOCUS_WEAK", "CHANGE_HISTORY",
+            "CHAT", "CHAT_BUBBLE", "CHAT_BUBBLE_OUTLINE", "CHECK",
+            "CHECK_BOX", "CHECK_BOX_OUTLINE_BLANK", "CHECK_CIRCLE", "CHEVRON_LEFT",
+            "CHEVRON_RIGHT", "CHILD_CARE", "CHILD_FRIENDLY", "CHROME_READER_MODE",
+            "CLASS", "CLEAR", "CLEAR_ALL", "CLOSE",
+            "CLOSED_CAPTION", "CLOUD", "CLOUD_CIRCLE", "CLOUD_DONE",
+            "CLOUD_DOWNLOAD", "CLOUD_OFF", "CLOUD_QUEUE", "CLOUD_UPLOAD",
+            "CODE", "COLLECTIONS", "COLLECTIONS_BOOKMARK", "COLORIZE",
+            "COLOR_LENS", "COMMENT", "COMPARE", "COMPARE_ARROWS",
+            "COMPUTER", "CONFIRMATION_NUMBER", "CONTACTS", "CONTACT_MAIL",
+            "CONTACT_PHONE", "CONTENT_COPY", "CONTENT_CUT", "CONTENT_PASTE",
+            "CONTROL_POINT", "CONTROL_POINT_DUPLICATE", "COPYRIGHT", "CREATE",
+            "CREATE_NEW_FOLDER", "CREDIT_CARD", "CROP", "CROP_16_9",
+            "CROP_3_2", "CROP_5_4", "CROP_7_5", "CROP_DIN",
+            "CROP_FREE", "CROP_LANDSCAPE", "CROP_ORIGINAL", "CROP_PORTRAIT",
+            "CROP_ROTATE", "CROP_SQUARE", "DASHBOARD", "DATA_USAGE",
+            "DATE_RANGE", "DEHAZE", "DELETE", "DELETE_FOREVER",
+            "DELETE_SWEEP", "DESCRIPTION", "DESKTOP_MAC", "DESKTOP_WINDOWS",
+            "DETAILS", "DEVELOPER_BOARD", "DEVELOPER_MODE", "DEVICES",
+            "DEVICES_OTHER", "DEVICE_HUB", "DIALER_SIP", "DIALPAD",
+            "DIRECTIONS", "DIRECTIONS_BIKE", "DIRECTIONS_BOAT", "DIRECTIONS_BUS",
+            "DIRECTIONS_CAR", "DIRECTIONS_RAILWAY", "DIRECTIONS_RUN", "DIRECTIONS_SUBWAY",
+            "DIRECTIONS_TRANSIT", "DIRECTIONS_WALK", "DISC_FULL", "DNS",
+            "DOCK", "DOMAIN", "DONE", "DONE_ALL",
+            "DONUT_LARGE", "DONUT_SMALL", "DO_NOT_DISTURB", "DO_NOT_DISTURB_ALT",
+            "DO_NOT_DISTURB_OFF", "DO_NOT_DISTURB_ON", "DRAFTS", "DRAG_HANDLE",
+            "DRIVE_ETA", "DVR", "EDIT", "EDIT_LOCATION",
+            "EJECT", "EMAIL", "ENHANCED_ENCRYPTION", "EQUALIZER",
+            "ERROR", "ERROR_OUTLINE", "EURO_SYMBOL", "EVENT",
+            "EVENT_AVAILABLE", "EVENT_BUSY", "EVENT_NOTE", "EVENT_SEAT",
+            "EV_STATION", "EXIT_TO_APP", "EXPAND_LESS", "EXPAND_MORE",
+            "EXPLICIT", "EXPLORE", "EXPOSURE", "EXPOSURE_NEG_1",
+            "EXPOSURE_NEG_2", "EXPOSURE_PLUS_1", "EXPOSURE_PLUS_2", "EXPOSURE_ZERO",
+            "EXTENSION", "FACE", "FAST_FORWARD", "FAST_REWIND",
+            "FAVORITE", "FAVORITE_BORDER", "FEATURED_PLAY_LIST", "FEATURED_VIDEO",
+            "FEEDBACK", "FIBER_DVR", "FIBER_MANUAL_RECORD", "FIBER_NEW",
+            "FIBER_PIN", "FIBER_SMART_RECORD", "FILE_DOWNLOAD", "FILE_UPLOAD",
+            "FILTER", "FILTER_1", "FILTER_2", "FILTER_3",
+            "FILTER_4", "FILTER_5", "FILTER_6", "FILTER_7",
+            "FILTER_8", "FILTER_9", "FILTER_9_PLUS", "FILTER_B_AND_W",
+            "FILTER_CENTER_FOCUS", "FILTER_DRAMA", "FILTER_FRAMES", "FILTER_HDR",
+            "FILTER_LIST", "FILTER_NONE", "FILTER_TILT_SHIFT", "FILTER_VINTAGE",
+            "FIND_IN_PAGE", "FIND_REPLACE", "FINGERPRINT", "FIRST_PAGE",
+            "FITNESS_CENTER", "FLAG", "FLARE", "FLASH_AUTO",
+            "FLASH_OFF", "FLASH_ON", "FLIGHT", "FLIGHT_LAND",
+            "FLIGHT_TAKEOFF", "FLIP", "FLIP_TO_BACK", "FLIP_TO_FRONT",
+            "FOLDER", "FOLDER_OPEN", "FOLDER_SHARED", "FOLDER_SPECIAL",
+            "FONT_DOWNLOAD", "FORMAT_ALIGN_CENTER", "FORMAT_ALIGN_JUSTIFY", "FORMAT_ALIGN_LEFT",
+            "FORMAT_ALIGN_RIGHT", "FORMAT_BOLD", "FORMAT_CLEAR", "FORMAT_COLOR_FILL",
+            "FORMAT_COLOR_RESET", "FORMAT_COLOR_TEXT", "FORMAT_INDENT_DECREASE", "FORMAT_INDENT_INCREASE",
+            "FORMAT_ITALIC", "FORMAT_LINE_SPACING", "FORMAT_LIST_BULLETED", "FORMAT_LIST_NUMBERED",
+            "FORMAT_PAINT", "FORMAT_QUOTE", "FORMAT_SHAPES", "FORMAT_SIZE",
+            "FORMAT_STRIKETHROUGH", "FORMAT_TEXTDIRECTION_L_TO_R", "FORMAT_TEXTDIRECTION_R_TO_L", "FORMAT_UNDERLINED",
+            "FORUM", "FORWARD", "FORWARD_10", "FORWARD_30",
+            "FORWARD_5", "FREE_BREAKFAST", "FULLSCREEN", "FULLSCREEN_EXIT",
+            "FUNCTIONS", "GAMEPAD", "GAMES", "GAVEL",
+            "GESTURE", "GET_APP", "GIF", "GOLF_COURSE",
+            "GPS_FIXED", "GPS_NOT_FIXED", "GPS_OFF", "GRADE",
+            "GRADIENT", "GRAIN", "GRAPHIC_EQ", "GRID_OFF",
+            "GRID_ON", "GROUP", "GROUP_ADD", "GROUP_WORK",
+            "G_TRANSLATE", "HD", "HDR_OFF", "HDR_ON",
+            "HDR_STRONG", "HDR_WEAK", "HEADSET", "HEADSET_MIC",
+            "HEALING", "HEARING", "HELP", "HELP_OUTLINE",
+            "HIGHLIGHT", "HIGHLIGHT_OFF", "HIGH_QUALITY", "HISTORY",
+            "HOME", "HOTEL", "HOT_TUB", "HOURGLASS_EMPTY",
+            "HOURGLASS_FULL", "HTTP", "HTTPS", "IMAGE",
+            "IMAGE_ASPECT_RATIO", "IMPORTANT_DEVICES", "IMPORT_CONTACTS", "IMPORT_EXPORT",
+            "INBOX", "INDETERMINATE_CHECK_BOX", "INFO", "INFO_OUTLINE",
+            "INPUT", "INSERT_CHART", "INSERT_COMMENT", "INSERT_DRIVE_FILE",
+            "INSERT_EMOTICON", "INSERT_INVITATION", "INSERT_LINK", "INSERT_PHOTO",
+            "INVERT_COLORS", "INVERT_COLORS_OFF", "ISO", "KEYBOARD",
+            "KEYBOARD_ARROW_DOWN", "KEYBOARD_ARROW_LEFT", "KEYBOARD_ARROW_RIGHT", "KEYBOARD_ARROW_UP",
+            "KEYBOARD_BACKSPACE", "KEYBOARD_CAPSLOCK", "KEYBOARD_HIDE", "KEYBOARD_RETURN",
+            "KEYBOARD_TAB", "KEYBOARD_VOICE", "KITCHEN", "LABEL",
+            "LABEL_OUTLINE", "LANDSCAPE", "LANGUAGE", "LAPTOP",
+            "LAPTOP_CHROMEBOOK", "LAPTOP_MAC", "LAPTOP_WINDOWS", "LAST_PAGE",
+            "LAUNCH", "LAYERS", "LAYERS_CLEAR", "LEAK_ADD",
+            "LEAK_REMOVE", "LENS", "LIBRARY_ADD", "LIBRARY_BOOKS",
+            "LIBRARY_MUSIC", "LIGHTBULB_OUTLINE", "LINEAR_SCALE", "LINE_STYLE",
+            "LINE_WEIGHT", "LINK", "LINKED_CAMERA", "LIST",
+            "LIVE_HELP", "LIVE_TV", "LOCAL_ACTIVITY", "LOCAL_AIRPORT",
+            "LOCAL_ATM", "LOCAL_BAR", "LOCAL_CAFE", "LOCAL_CAR_WASH",
+            "LOCAL_CONVENIENCE_STORE", "LOCAL_DINING", "LOCAL_DRINK", "LOCAL_FLORIST",
+            "LOCAL_GAS_STATION", "LOCAL_GROCERY_STORE", "LOCAL_HOSPITAL", "LOCAL_HOTEL",
+            "LOCAL_LAUNDRY_SERVICE", "LOCAL_LIBRARY", "LOCAL_MALL", "LOCAL_MOVIES",
+            "LOCAL_OFFER", "LOCAL_PARKING", "LOCAL_PHARMACY", "LOCAL_PHONE",
+            "LOCAL_PIZZA", "LOCAL_PLAY", "LOCAL_POST_OFFICE", "LOCAL_PRINTSHOP",
+            "LOCAL_SEE", "LOCAL_SHIPPING", "LOCAL_TAXI", "LOCATION_CITY",
+            "LOCATION_DISABLED", "LOCATION_OFF", "LOCATION_ON", "LOCATION_SEARCHING",
+            "LOCK", "LOCK_OPEN", "LOCK_OUTLINE", "LOOKS",
+            "LOOKS_3", "LOOKS_4", "LOOKS_5", "LOOKS_6",
+            "LOOKS_ONE", "LOOKS_TWO", "LOOP", "LOUPE",
+            "LOW_PRIORITY", "LOYALTY", "MAIL", "MAIL_OUTLINE",
+            "MAP", "MARKUNREAD", "MARKUNREAD_MAILBOX", "MEMORY",
+            "MENU", "MERGE_TYPE", "MESSAGE", "MIC",
+            "MIC_NONE", "MIC_OFF", "MMS", "MODE_COMMENT",
+            "MODE_EDIT", "MONETIZATION_ON", "MONEY_OFF", "MONOCHROME_PHOTOS",
+            "MOOD", "MOOD_BAD", "MORE", "MORE_HORIZ",
+            "MORE_VERT", "MOTORCYCLE", "MOUSE", "MOVE_TO_INBOX",
+            "MOVIE", "MOVIE_CREATION", "MOVIE_FILTER", "MULTILINE_CHART",
+            "MUSIC_NOTE", "MUSIC_VIDEO", "MY_LOCATION", "NATURE",
+            "NATURE_PEOPLE", "NAVIGATE_BEFORE", "NAVIGATE_NEXT", "NAVIGATION",
+            "NEAR_ME", "NETWORK_CELL", "NETWORK_CHECK", "NETWORK_LOCKED",
+            "NETWORK_WIFI", "NEW_RELEASES", "NEXT_WEEK", "NFC",
+            "NOTE", "NOTE_ADD", "NOTIFICATIONS", "NOTIFICATIONS_ACTIVE",
+            "NOTIFICATIONS_NONE", "NOTIFICATIONS_OFF", "NOTIFICATIONS_PAUSED", "NOT_INTERESTED",
+            "NO_ENCRYPTION", "NO_SIM", "OFFLINE_PIN", "ONDEMAND_VIDEO",
+            "OPACITY", "OPEN_IN_BROWSER", "OPEN_IN_NEW", "OPEN_WITH",
+            "PAGES", "PAGEVIEW", "PALETTE", "PANORAMA",
+            "PANORAMA_FISH_EYE", "PANORAMA_HORIZONTAL", "PANORAMA_VERTICAL", "PANORAMA_WIDE_ANGLE",
+            "PAN_TOOL", "PARTY_MODE", "PAUSE", "PAUSE_CIRCLE_FILLED",
+            "PAUSE_CIRCLE_OUTLINE", "PAYMENT", "PEOPLE", "PEOPLE_OUTLINE",
+            "PERM_CAMERA_MIC", "PERM_CONTACT_CALENDAR", "PERM_DATA_SETTING", "PERM_DEVICE_INFORMATION",
+            "PERM_IDENTITY", "PERM_MEDIA", "PERM_PHONE_MSG", "PERM_SCAN_WIFI",
+            "PERSON", "PERSONAL_VIDEO", "PERSON_ADD", "PERSON_OUTLINE",
+            "PERSON_PIN", "PERSON_PIN_CIRCLE", "PETS", "PHONE",
+            "PHONELINK", "PHONELINK_ERASE", "PHONELINK_LOCK", "PHONELINK_OFF",
+            "PHONELINK_RING", "PHONELINK_SETUP", "PHONE_ANDROID", "PHONE_BLUETOOTH_SPEAKER",
+            "PHONE_FORWARDED", "PHONE_IN_TALK", "PHONE_IPHONE", "PHONE_LOCKED",
+            "PHONE_MISSED", "PHONE_PAUSED", "PHOTO", "PHOTO_ALBUM",
+            "PHOTO_CAMERA", "PHOTO_FILTER", "PHOTO_LIBRARY", "PHOTO_SIZE_SELECT_ACTUAL",
+            "PHOTO_SIZE_SELECT_LARGE", "PHOTO_SIZE_SELECT_SMALL", "PICTURE_AS_PDF", "PICTURE_IN_PICTURE",
+            "PICTURE_IN_PICTURE_ALT", "PIE_CHART", "PIE_CHART_OUTLINED", "PIN_DROP",
+            "PLACE", "PLAYLIST_ADD", "PLAYLIST_ADD_CHECK", "PLAYLIST_PLAY",
+            "PLAY_ARROW", "PLAY_CIRCLE_FILLED", "PLAY_CIRCLE_OUTLINE", "PLAY_FOR_WORK",
+            "PLUS_ONE", "POLL", "POLYMER", "POOL",
+            "PORTABLE_WIFI_OFF", "PORTRAIT", "POWER", "POWER_INPUT",
+            "POWER_SETTINGS_NEW", "PREGNANT_WOMAN", "PRESENT_TO_ALL", "PRINT",
+            "PRIORITY_HIGH", "PUBLIC", "PUBLISH", "QUERY_BUILDER",
+            "QUESTION_ANSWER", "QUEUE", "QUEUE_MUSIC", "QUEUE_PLAY_NEXT",
+            "RADIO", "RADIO_BUTTON_CHECKED", "RADIO_BUTTON_UNCHECKED", "RATE_REVIEW",
+            "RECEIPT", "RECENT_ACTORS", "RECORD_VOICE_OVER", "REDEEM",
+            "REDO", "REFRESH", "REMOVE", "REMOVE_CIRCLE",
+            "REMOVE_CIRCLE_OUTLINE", "REMOVE_FROM_QUEUE", "REMOVE_RED_EYE", "REMOVE_SHOPPING_CART",
+            "REORDER", "REPEAT", "REPEAT_ONE", "REPLAY",
+            "REPLAY_10", "REPLAY_30", "REPLAY_5", "REPLY",
+            "REPLY_ALL", "REPORT", "REPORT_PROBLEM", "RESTAURANT",
+            "RESTAURANT_MENU", "RESTORE", "RESTORE_PAGE", "RING_VOLUME",
+            "ROOM", "ROOM_SERVICE", "ROTATE_90_DEGREES_CCW", "ROTATE_LEFT",
+            "ROTATE_RIGHT", "ROUNDED_CORNER", "ROUTER", "ROWING",
+            "RSS_FEED", "RV_HOOKUP", "SATELLITE", "SAVE",
+            "SCANNER", "SCHEDULE", "SCHOOL", "SCREEN_LOCK_LANDSCAPE",
+            "SCREEN_LOCK_PORTRAIT", "SCREEN_LOCK_ROTATION", "SCREEN_ROTATION", "SCREEN_SHARE",
+            "SD_CARD", "SD_STORAGE", "SEARCH", "SECURITY",
+            "SELECT_ALL", "SEND", "SENTIMENT_DISSATISFIED", "SENTIMENT_NEUTRAL",
+            "SENTIMENT_SATISFIED", "SENTIMENT_VERY_DISSATISFIED", "SENTIMENT_VERY_SATISFIED", "SETTINGS",
+            "SETTINGS_APPLICATIONS", "SETTINGS_BACKUP_RESTORE", "SETTINGS_BLUETOOTH", "SETTINGS_BRIGHTNESS",
+            "SETTINGS_CELL", "SETTINGS_ETHERNET", "SETTINGS_INPUT_ANTENNA", "SETTINGS_INPUT_COMPONENT",
+            "SETTINGS_INPUT_COMPOSITE", "SETTINGS_INPUT_HDMI", "SETTINGS_INPUT_SVIDEO", "SETTINGS_OVERSCAN",
+            "SETTINGS_PHONE", "SETTINGS_POWER", "SETTINGS_REMOTE", "SETTINGS_SYSTEM_DAYDREAM",
+            "SETTINGS_VOICE", "SHARE", "SHOP", "SHOPPING_BASKET",
+            "SHOPPING_CART", "SHOP_TWO", "SHORT_TEXT", "SHOW_CHART",
+            "SHUFFLE", "SIGNAL_CELLULAR_4_BAR", "SIGNAL_CELLULAR_CONNECTED_NOINTERNET_4BAR", "SIGNAL_CELLULAR_NO_SIM",
+            "SIGNAL_CELLULAR_NULL", "SIGNAL_CELLULAR_OFF", "SIGNAL_WIFI_4_BAR", "SIGNAL_WIFI_4_BAR_LOCK",
+            "SIGNAL_WIFI_OFF", "SIM_CARD", "SIM_CARD_ALERT", "SKIP_NEXT",
+            "SKIP_PREVIOUS", "SLIDESHOW", "SLOW_MOTION_VIDEO", "SMARTPHONE",
+            "SMOKE_FREE", "SMOKING_ROOMS", "SMS", "SMS_FAILED",
+            "SNOOZE", "SORT", "SORT_BY_ALPHA", "SPA",
+            "SPACE_BAR", "SPEAKER", "SPEAKER_GROUP", "SPEAKER_NOTES",
+            "SPEAKER_NOTES_OFF", "SPEAKER_PHONE", "SPELLCHECK", "STAR",
+            "STARS", "STAR_BORDER", "STAR_HALF", "STAY_CURRENT_LANDSCAPE",
+            "STAY_CURRENT_PORTRAIT", "STAY_PRIMARY_LANDSCAPE", "STAY_PRIMARY_PORTRAIT", "STOP",
+            "STOP_SCREEN_SHARE", "STORAGE", "STORE", "STORE_MALL_DIRECTORY",
+            "STRAIGHTEN", "STREETVIEW", "STRIKETHROUGH_S", "STYLE",
+            "SUBDIRECTORY_ARROW_LEFT", "SUBDIRECTORY_ARROW_RIGHT", "SUBJECT", "SUBSCRIPTIONS",
+            "SUBTITLES", "SUBWAY", "SUPERVISOR_ACCOUNT", "SURROUND_SOUND",
+            "SWAP_CALLS", "SWAP_HORIZ", "SWAP_VERT", "SWAP_VERTICAL_CIRCLE",
+            "SWITCH_CAMERA", "SWITCH_VIDEO", "SYNC", "SYNC_DISABLED",
+            "SYNC_PROBLEM", "SYSTEM_UPDATE", "SYSTEM_UPDATE_ALT", "TAB",
+            "TABLET", "TABLET_ANDROID", "TABLET_MAC", "TAB_UNSELECTED",
+            "TAG_FACES", "TAP_AND_PLAY", "TERRAIN", "TEXTSMS",
+            "TEXTURE", "TEXT_FIELDS", "TEXT_FORMAT", "THEATERS",
+            "THUMBS_UP_DOWN", "THUMB_DOWN", "THUMB_UP", "TIMELAPSE",
+            "TIMELINE", "TIMER", "TIMER_10", "TIMER_3",
+            "TIMER_OFF", "TIME_TO_LEAVE", "TITLE", "TOC",
+            "TODAY", "TOLL", "TONALITY", "TOUCH_APP",
+            "TOYS", "TRACK_CHANGES", "TRAFFIC", "TRAIN",
+            "TRAM", "TRANSFER_WITHIN_A_STATION", "TRANSFORM", "TRANSLATE",
+            "TRENDING_DOWN", "TRENDING_FLAT", "TRENDING_UP", "TUNE",
+            "TURNED_IN", "TURNED_IN_NOT", "TV", "UNARCHIVE",
+            "UNDO", "UNFOLD_LESS", "UNFOLD_MORE", "UPDATE",
+            "USB", "VERIFIED_USER", "VERTICAL_ALIGN_BOTTOM", "VERTICAL_ALIGN_CENTER",
+            "VERTICAL_ALIGN_TOP", "VIBRATION", "VIDEOCAM", "VIDEOCAM_OFF",
+            "VIDEOGAME_ASSET", "VIDEO_CALL", "VIDEO_LABEL", "VIDEO_LIBRARY",
+            "VIEW_AGENDA", "VIEW_ARRAY", "VIEW_CAROUSEL", "VIEW_COLUMN",
+            "VIEW_COMFY", "VIEW_COMPACT", "VIEW_DAY", "VIEW_HEADLINE",
+            "VIEW_LIST", "VIEW_MODULE", "VIEW_QUILT", "VIEW_STREAM",
+            "VIEW_WEEK", "VIGNETTE", "VISIBILITY", "VISIBILITY_OFF",
+            "VOICEMAIL", "VOICE_CHAT", "VOLUME_DOWN", "VOLUME_MUTE",
+            "VOLUME_OFF", "VOLUME_UP", "VPN_KEY", "VPN_LOCK",
+            "WALLPAPER", "WARNING", "WATCH", "WATCH_LATER",
+            "WB_AUTO", "WB_CLOUDY", "WB_INCANDESCENT", "WB_IRIDESCENT",
+            "WB_SUNNY", "WC", "WEB", "WEB_ASSET",
+            "WEEKEND", "WHATSHOT", "WIDGETS", "WIFI",
+            "WIFI_LOCK", "WIFI_TETHERING", "WORK", "WRAP_TEXT",
+            "YOUTUBE_SEARCHED_FOR", "ZOOM_IN", "ZOOM_OUT", "ZOOM_OUT_MAP"
+    };
+
+    /**
+     * Codepoints of the icons in {@link #NAMES}, in the same order.
+     */
+    private static final char[] CODEPOINTS_BY_NAME = {
+            '\uE84E', '\uE914', '\uE190', '\uE191', '\uE192', '\uE84F', '\uE850', '\uE851',
+            '\uE853', '\uEB3B', '\uE60E', '\uE145', '\uE193', '\uE003', '\uE439', '\uE146',
+            '\uE147', '\uE148', '\uE567', '\uE854', '\uE39D', '\uE05C', '\uE39E', '\uE630',
+            '\uE631', '\uE632', '\uE633', '\uE634', '\uE635', '\uE636', '\uE637', '\uE195',
+            '\uE194', '\uE055', '\uEB3C', '\uE855', '\uE856', '\uE857', '\uE858', '\uE019',
+            '\uEB3D', '\uE90B', '\uE859', '\uE85A', '\uE5C3', '\uE149', '\uE5C4', '\uE5DB',
+            '\uE5C5', '\uE5C6', '\uE5C7', '\uE5C8', '\uE5D8', '\uE060', '\uE85B', '\uE85C',
+            '\uE85D', '\uE85E', '\uE85F', '\uE860', '\uE861', '\uE862', '\uE39F', '\uE3A0',
+            '\uE2BC', '\uE226', '\uE227', '\uE3A1', '\uE863', '\uE01B', '\uE84D', '\uE14A',
+            '\uE864', '\uE19C', '\uE1A3', '\uE1A4', '\uE1A5', '\uE1A6', '\uEB3E', '\uE52D',
+            '\uE14B', '\uE1A7', '\uE60F', '\uE1A8', '\uE1A9', '\uE1AA', '\uE3A2', '\uE3A3',
+            '\uE3A4', '\uE3A5', '\uE865', '\uE866', '\uE867', '\uE228', '\uE229', '\uE22A',
+            '\uE22B', '\uE22C', '\uE22D', '\uE22E', '\uE22F', '\uE230', '\uE231', '\uE232',
+            '\uE233', '\uE06B', '\uE3A6', '\uE3A7', '\uE3A8', '\uE3A9', '\uE3AA', '\uE3AB',
+            '\uE3AC', '\uE1AB', '\uE1AC', '\uE1AD', '\uE1AE', '\uE3AD', '\uE3AE', '\uE6DD',
+            '\uE868', '\uE869', '\uE43C', '\uE0AF', '\uEB3F', '\uE86A', '\uE7E9', '\uE0B0',
+            '\uE0B1', '\uE0B2', '\uE0B3', '\uE0B4', '\uE0E4', '\uE0B5', '\uE0B6', '\uE06C',
+            '\uE3AF', '\uE3B0', '\uE8FC', '\uE3B1', '\uE3B2', '\uE3B3', '\uE5C9', '\uE8F6',
+            '\uE8F7', '\uE8F8', '\uEB40', '\uE307', '\uE308', '\uE3B4', '\uE3B5', '\uE86B',
+            '\uE0B7', '\uE0CA', '\uE0CB', '\uE5CA', '\uE834', '\uE835', '\uE86C', '\uE5CB',
+            '\uE5CC', '\uEB41', '\uEB42', '\uE86D', '\uE86E', '\uE14C', '\uE0B8', '\uE5CD',
+            '\uE01C', '\uE2BD', '\uE2BE', '\uE2BF', '\uE2C0', '\uE2C1', '\uE2C2', '\uE2C3',
+            '\uE86F', '\uE3B6', '\uE431', '\uE3B8', '\uE3B7', '\uE0B9', '\uE3B9', '\uE915',
+            '\uE30A', '\uE638', '\uE0BA', '\uE0D0', '\uE0CF', '\uE14D', '\uE14E', '\uE14F',
+            '\uE3BA', '\uE3BB', '\uE90C', '\uE150', '\uE2CC', '\uE870', '\uE3BE', '\uE3BC',
+            '\uE3BD', '\uE3BF', '\uE3C0', '\uE3C1', '\uE3C2', '\uE3C3', '\uE3C4', '\uE3C5',
+            '\uE437', '\uE3C6', '\uE871', '\uE1AF', '\uE916', '\uE3C7', '\uE872', '\uE92B',
+            '\uE16C', '\uE873', '\uE30B', '\uE30C', '\uE3C8', '\uE30D', '\uE1B0', '\uE1B1',
+            '\uE337', '\uE335', '\uE0BB', '\uE0BC', '\uE52E', '\uE52F', '\uE532', '\uE530',
+            '\uE531', '\uE534', '\uE566', '\uE533', '\uE535', '\uE536', '\uE610', '\uE875',
+            '\uE30E', '\uE7EE', '\uE876', '\uE877', '\uE917', '\uE918', '\uE612', '\uE611',
+            '\uE643', '\uE644', '\uE151', '\uE25D', '\uE613', '\uE1B2', '\uE3C9', '\uE568',
+            '\uE8FB', '\uE0BE', '\uE63F', '\uE01D', '\uE000', '\uE001', '\uE926', '\uE878',
+            '\uE614', '\uE615', '\uE616', '\uE903', '\uE56D', '\uE879', '\uE5CE', '\uE5CF',
+            '\uE01E', '\uE87A', '\uE3CA', '\uE3CB', '\uE3CC', '\uE3CD', '\uE3CE', '\uE3CF',
+            '\uE87B', '\uE87C', '\uE01F', '\uE020', '\uE87D', '\uE87E', '\uE06D', '\uE06E',
+            '\uE87F', '\uE05D', '\uE061', '\uE05E', '\uE06A', '\uE062', '\uE2C4', '\uE2C6',
+            '\uE3D3', '\uE3D0', '\uE3D1', '\uE3D2', '\uE3D4', '\uE3D5', '\uE3D6', '\uE3D7',
+            '\uE3D8', '\uE3D9', '\uE3DA', '\uE3DB', '\uE3DC', '\uE3DD', '\uE3DE', '\uE3DF',
+            '\uE152', '\uE3E0', '\uE3E2', '\uE3E3', '\uE880', '\uE881', '\uE90D', '\uE5DC',
+            '\uEB43', '\uE153', '\uE3E4', '\uE3E5', '\uE3E6', '\uE3E7', '\uE539', '\uE904',
+            '\uE905', '\uE3E8', '\uE882', '\uE883', '\uE2C7', '\uE2C8', '\uE2C9', '\uE617',
+            '\uE167', '\uE234', '\uE235', '\uE236', '\uE237', '\uE238', '\uE239', '\uE23A',
+            '\uE23B', '\uE23C', '\uE23D', '\uE23E', '\uE23F', '\uE240', '\uE241', '\uE242',
+            '\uE243', '\uE244', '\uE25E', '\uE245', '\uE246', '\uE247', '\uE248', '\uE249',
+            '\uE0BF', '\uE154', '\uE056', '\uE057', '\uE058', '\uEB44', '\uE5D0', '\uE5D1',
+            '\uE24A', '\uE30F', '\uE021', '\uE90E', '\uE155', '\uE884', '\uE908', '\uEB45',
+            '\uE1B3', '\uE1B4', '\uE1B5', '\uE885', '\uE3E9', '\uE3EA', '\uE1B8', '\uE3EB',
+            '\uE3EC', '\uE7EF', '\uE7F0', '\uE886', '\uE927', '\uE052', '\uE3ED', '\uE3EE',
+            '\uE3F1', '\uE3F2', '\uE310', '\uE311', '\uE3F3', '\uE023', '\uE887', '\uE8FD',
+            '\uE25F', '\uE888', '\uE024', '\uE889', '\uE88A', '\uE53A', '\uEB46', '\uE88B',
+            '\uE88C', '\uE902', '\uE88D', '\uE3F4', '\uE3F5', '\uE912', '\uE0E0', '\uE0C3',
+            '\uE156', '\uE909', '\uE88E', '\uE88F', '\uE890', '\uE24B', '\uE24C', '\uE24D',
+            '\uE24E', '\uE24F', '\uE250', '\uE251', '\uE891', '\uE0C4', '\uE3F6', '\uE312',
+            '\uE313', '\uE314', '\uE315', '\uE316', '\uE317', '\uE318', '\uE31A', '\uE31B',
+            '\uE31C', '\uE31D', '\uEB47', '\uE892', '\uE893', '\uE3F7', '\uE894', '\uE31E',
+            '\uE31F', '\uE320', '\uE321', '\uE5DD', '\uE895', '\uE53B', '\uE53C', '\uE3F8',
+            '\uE3F9', '\uE3FA', '\uE02E', '\uE02F', '\uE030', '\uE90F', '\uE260', '\uE919',
+            '\uE91A', '\uE157', '\uE438', '\uE896', '\uE0C6', '\uE639', '\uE53F', '\uE53D',
+            '\uE53E', '\uE540', '\uE541', '\uE542', '\uE543', '\uE556', '\uE544', '\uE545',
+            '\uE546', '\uE547', '\uE548', '\uE549', '\uE54A', '\uE54B', '\uE54C', '\uE54D',
+            '\uE54E', '\uE54F', '\uE550', '\uE551', '\uE552', '\uE553', '\uE554', '\uE555',
+            '\uE557', '\uE558', '\uE559', '\uE7F1', '\uE1B6', '\uE0C7', '\uE0C8', '\uE1B7',
+            '\uE897', '\uE898', '\uE899', '\uE3FC', '\uE3FB', '\uE3FD', '\uE3FE', '\uE3FF',
+            '\uE400', '\uE401', '\uE028', '\uE402', '\uE16D', '\uE89A', '\uE158', '\uE0E1',
+            '\uE55B', '\uE159', '\uE89B', '\uE322', '\uE5D2', '\uE252', '\uE0C9', '\uE029',
+            '\uE02A', '\uE02B', '\uE618', '\uE253', '\uE254', '\uE263', '\uE25C', '\uE403',
+            '\uE7F2', '\uE7F3', '\uE619', '\uE5D3', '\uE5D4', '\uE91B', '\uE323', '\uE168',
+            '\uE02C', '\uE404', '\uE43A', '\uE6DF', '\uE405', '\uE063', '\uE55C', '\uE406',
+            '\uE407', '\uE408', '\uE409', '\uE55D', '\uE569', '\uE1B9', '\uE640', '\uE61A',
+            '\uE1BA', '\uE031', '\uE16A', '\uE1BB', '\uE06F', '\uE89C', '\uE7F4', '\uE7F7',
+            '\uE7F5', '\uE7F6', '\uE7F8', '\uE033', '\uE641', '\uE0CC', '\uE90A', '\uE63A',
+            '\uE91C', '\uE89D', '\uE89E', '\uE89F', '\uE7F9', '\uE8A0', '\uE40A', '\uE40B',
+            '\uE40C', '\uE40D', '\uE40E', '\uE40F', '\uE925', '\uE7FA', '\uE034', '\uE035',
+            '\uE036', '\uE8A1', '\uE7FB', '\uE7FC', '\uE8A2', '\uE8A3', '\uE8A4', '\uE8A5',
+            '\uE8A6', '\uE8A7', '\uE8A8', '\uE8A9', '\uE7FD', '\uE63B', '\uE7FE', '\uE7FF',
+            '\uE55A', '\uE56A', '\uE91D', '\uE0CD', '\uE326', '\uE0DB', '\uE0DC', '\uE327',
+            '\uE0DD', '\uE0DE', '\uE324', '\uE61B', '\uE61C', '\uE61D', '\uE325', '\uE61E',
+            '\uE61F', '\uE620', '\uE410', '\uE411', '\uE412', '\uE43B', '\uE413', '\uE432',
+            '\uE433', '\uE434', '\uE415', '\uE8AA', '\uE911', '\uE6C4', '\uE6C5', '\uE55E',
+            '\uE55F', '\uE03B', '\uE065', '\uE05F', '\uE037', '\uE038', '\uE039', '\uE906',
+            '\uE800', '\uE801', '\uE8AB', '\uEB48', '\uE0CE', '\uE416', '\uE63C', '\uE336',
+            '\uE8AC', '\uE91E', '\uE0DF', '\uE8AD', '\uE645', '\uE80B', '\uE255', '\uE8AE',
+            '\uE8AF', '\uE03C', '\uE03D', '\uE066', '\uE03E', '\uE837', '\uE836', '\uE560',
+            '\uE8B0', '\uE03F', '\uE91F', '\uE8B1', '\uE15A', '\uE5D5', '\uE15B', '\uE15C',
+            '\uE15D', '\uE067', '\uE417', '\uE928', '\uE8FE', '\uE040', '\uE041', '\uE042',
+            '\uE059', '\uE05A', '\uE05B', '\uE15E', '\uE15F', '\uE160', '\uE8B2', '\uE56C',
+            '\uE561', '\uE8B3', '\uE929', '\uE0D1', '\uE8B4', '\uEB49', '\uE418', '\uE419',
+            '\uE41A', '\uE920', '\uE328', '\uE921', '\uE0E5', '\uE642', '\uE562', '\uE161',
+            '\uE329', '\uE8B5', '\uE80C', '\uE1BE', '\uE1BF', '\uE1C0', '\uE1C1', '\uE0E2',
+            '\uE623', '\uE1C2', '\uE8B6', '\uE32A', '\uE162', '\uE163', '\uE811', '\uE812',
+            '\uE813', '\uE814', '\uE815', '\uE8B8', '\uE8B9', '\uE8BA', '\uE8BB', '\uE8BD',
+            '\uE8BC', '\uE8BE', '\uE8BF', '\uE8C0', '\uE8C1', '\uE8C2', '\uE8C3', '\uE8C4',
+            '\uE8C5', '\uE8C6', '\uE8C7', '\uE1C3', '\uE8C8', '\uE80D', '\uE8C9', '\uE8CB',
+            '\uE8CC', '\uE8CA', '\uE261', '\uE6E1', '\uE043', '\uE1C8', '\uE1CD', '\uE1CE',
+            '\uE1CF', '\uE1D0', '\uE1D8', '\uE1D9', '\uE1DA', '\uE32B', '\uE624', '\uE044',
+            '\uE045', '\uE41B', '\uE068', '\uE32C', '\uEB4A', '\uEB4B', '\uE625', '\uE626',
+            '\uE046', '\uE164', '\uE053', '\uEB4C', '\uE256', '\uE32D', '\uE32E', '\uE8CD',
+            '\uE92A', '\uE0D2', '\uE8CE', '\uE838', '\uE8D0', '\uE83A', '\uE839', '\uE0D3',
+            '\uE0D4', '\uE0D5', '\uE0D6', '\uE047', '\uE0E3', '\uE1DB', '\uE8D1', '\uE563',
+            '\uE41C', '\uE56E', '\uE257', '\uE41D', '\uE5D9', '\uE5DA', '\uE8D2', '\uE064',
+            '\uE048', '\uE56F', '\uE8D3', '\uE049', '\uE0D7', '\uE8D4', '\uE8D5', '\uE8D6',
+            '\uE41E', '\uE41F', '\uE627', '\uE628', '\uE629', '\uE62A', '\uE8D7', '\uE8D8',
+            '\uE32F', '\uE330', '\uE331', '\uE8D9', '\uE420', '\uE62B', '\uE564', '\uE0D8',
+            '\uE421', '\uE262', '\uE165', '\uE8DA', '\uE8DD', '\uE8DB', '\uE8DC', '\uE422',
+            '\uE922', '\uE425', '\uE423', '\uE424', '\uE426', '\uE62C', '\uE264', '\uE8DE',
+            '\uE8DF', '\uE8E0', '\uE427', '\uE913', '\uE332', '\uE8E1', '\uE565', '\uE570',
+            '\uE571', '\uE572', '\uE428', '\uE8E2', '\uE8E3', '\uE8E4', '\uE8E5', '\uE429',
+            '\uE8E6', '\uE8E7', '\uE333', '\uE169', '\uE166', '\uE5D6', '\uE5D7', '\uE923',
+            '\uE1E0', '\uE8E8', '\uE258', '\uE259', '\uE25A', '\uE62D', '\uE04B', '\uE04C',
+            '\uE338', '\uE070', '\uE071', '\uE04A', '\uE8E9', '\uE8EA', '\uE8EB', '\uE8EC',
+            '\uE42A', '\uE42B', '\uE8ED', '\uE8EE', '\uE8EF', '\uE8F0', '\uE8F1', '\uE8F2',
+            '\uE8F3', '\uE435', '\uE8F4', '\uE8F5', '\uE0D9', '\uE62E', '\uE04D', '\uE04E',
+            '\uE04F', '\uE050', '\uE0DA', '\uE62F', '\uE1BC', '\uE002', '\uE334', '\uE924',
+            '\uE42C', '\uE42D', '\uE42E', '\uE436', '\uE430', '\uE63D', '\uE051', '\uE069',
+            '\uE16B', '\uE80E', '\uE1BD', '\uE63E', '\uE1E1', '\uE1E2', '\uE8F9', '\uE25B',
+            '\uE8FA', '\uE8FF', '\uE900', '\uE56B'
+    };
+
+    /**
+     * All the codepoints, sorted.
+     */
+    private static final char[] CODEPOINTS = {
+            '\uE000', '\uE001', '\uE002', '\uE003', '\uE019', '\uE01B', '\uE01C', '\uE01D',
+            '\uE01E', '\uE01F', '\uE020', '\uE021', '\uE023', '\uE024', '\uE028', '\uE029',
+            '\uE02A', '\uE02B', '\uE02C', '\uE02E', '\uE02F', '\uE030', '\uE031', '\uE033',
+            '\uE034', '\uE035', '\uE036', '\uE037', '\uE038', '\uE039', '\uE03B', '\uE03C',
+            '\uE03D', '\uE03E', '\uE03F', '\uE040', '\uE041', '\uE042', '\uE043', '\uE044',
+            '\uE045', '\uE046', '\uE047', '\uE048', '\uE049', '\uE04A', '\uE04B', '\uE04C',
+            '\uE04D', '\uE04E', '\uE04F', '\uE050', '\uE051', '\uE052', '\uE053', '\uE055',
+            '\uE056', '\uE057', '\uE058', '\uE059', '\uE05A', '\uE05B', '\uE05C', '\uE05D',
+            '\uE05E', '\uE05F', '\uE060', '\uE061', '\uE062', '\uE063', '\uE064', '\uE065',
+            '\uE066', '\uE067', '\uE068', '\uE069', '\uE06A', '\uE06B', '\uE06C', '\uE06D',
+            '\uE06E', '\uE06F', '\uE070', '\uE071', '\uE0AF', '\uE0B0', '\uE0B1', '\uE0B2',
+            '\uE0B3', '\uE0B4', '\uE0B5', '\uE0B6', '\uE0B7', '\uE0B8', '\uE0B9', '\uE0BA',
+            '\uE0BB', '\uE0BC', '\uE0BE', '\uE0BF', '\uE0C3', '\uE0C4', '\uE0C6', '\uE0C7',
+            '\uE0C8', '\uE0C9', '\uE0CA', '\uE0CB', '\uE0CC', '\uE0CD', '\uE0CE', '\uE0CF',
+            '\uE0D0', '\uE0D1', '\uE0D2', '\uE0D3', '\uE0D4', '\uE0D5', '\uE0D6', '\uE0D7',
+            '\uE0D8', '\uE0D9', '\uE0DA', '\uE0DB', '\uE0DC', '\uE0DD', '\uE0DE', '\uE0DF',
+            '\uE0E0', '\uE0E1', '\uE0E2', '\uE0E3', '\uE0E4', '\uE0E5', '\uE145', '\uE146',
+            '\uE147', '\uE148', '\uE149', '\uE14A', '\uE14B', '\uE14C', '\uE14D', '\uE14E',
+            '\uE14F', '\uE150', '\uE151', '\uE152', '\uE153', '\uE154', '\uE155', '\uE156',
+            '\uE157', '\uE158', '\uE159', '\uE15A', '\uE15B', '\uE15C', '\uE15D', '\uE15E',
+            '\uE15F', '\uE160', '\uE161', '\uE162', '\uE163', '\uE164', '\uE165', '\uE166',
+            '\uE167', '\uE168', '\uE169', '\uE16A', '\uE16B', '\uE16C', '\uE16D', '\uE190',
+            '\uE191', '\uE192', '\uE193', '\uE194', '\uE195', '\uE19C', '\uE1A3', '\uE1A4',
+            '\uE1A5', '\uE1A6', '\uE1A7', '\uE1A8', '\uE1A9', '\uE1AA', '\uE1AB', '\uE1AC',
+            '\uE1AD', '\uE1AE', '\uE1AF', '\uE1B0', '\uE1B1', '\uE1B2', '\uE1B3', '\uE1B4',
+            '\uE1B5', '\uE1B6', '\uE1B7', '\uE1B8', '\uE1B9', '\uE1BA', '\uE1BB', '\uE1BC',
+            '\uE1BD', '\uE1BE', '\uE1BF', '\uE1C0', '\uE1C1', '\uE1C2', '\uE1C3', '\uE1C8',
+            '\uE1CD', '\uE1CE', '\uE1CF', '\uE1D0', '\uE1D8', '\uE1D9', '\uE1DA', '\uE1DB',
+            '\uE1E0', '\uE1E1', '\uE1E2', '\uE226', '\uE227', '\uE228', '\uE229', '\uE22A',
+            '\uE22B', '\uE22C', '\uE22D', '\uE22E', '\uE22F', '\uE230', '\uE231', '\uE232',
+            '\uE233', '\uE234', '\uE235', '\uE236', '\uE237', '\uE238', '\uE239', '\uE23A',
+            '\uE23B', '\uE23C', '\uE23D', '\uE23E', '\uE23F', '\uE240', '\uE241', '\uE242',
+            '\uE243', '\uE244', '\uE245', '\uE246', '\uE247', '\uE248', '\uE249', '\uE24A',
+            '\uE24B', '\uE24C', '\uE24D', '\uE24E', '\uE24F', '\uE250', '\uE251', '\uE252',
+            '\uE253', '\uE254', '\uE255', '\uE256', '\uE257', '\uE258', '\uE259', '\uE25A',
+            '\uE25B', '\uE25C', '\uE25D', '\uE25E', '\uE25F', '\uE260', '\uE261', '\uE262',
+            '\uE263', '\uE264', '\uE2BC', '\uE2BD', '\uE2BE', '\uE2BF', '\uE2C0', '\uE2C1',
+            '\uE2C2', '\uE2C3', '\uE2C4', '\uE2C6', '\uE2C7', '\uE2C8', '\uE2C9', '\uE2CC',
+            '\uE307', '\uE308', '\uE30A', '\uE30B', '\uE30C', '\uE30D', '\uE30E', '\uE30F',
+            '\uE310', '\uE311', '\uE312', '\uE313', '\uE314', '\uE315', '\uE316', '\uE317',
+            '\uE318', '\uE31A', '\uE31B', '\uE31C', '\uE31D', '\uE31E', '\uE31F', '\uE320',
+            '\uE321', '\uE322', '\uE323', '\uE324', '\uE325', '\uE326', '\uE327', '\uE328',
+            '\uE329', '\uE32A', '\uE32B', '\uE32C', '\uE32D', '\uE32E', '\uE32F', '\uE330',
+            '\uE331', '\uE332', '\uE333', '\uE334', '\uE335', '\uE336', '\uE337', '\uE338',
+            '\uE39D', '\uE39E', '\uE39F', '\uE3A0', '\uE3A1', '\uE3A2', '\uE3A3', '\uE3A4',
+            '\uE3A5', '\uE3A6', '\uE3A7', '\uE3A8', '\uE3A9', '\uE3AA', '\uE3AB', '\uE3AC',
+            '\uE3AD', '\uE3AE', '\uE3AF', '\uE3B0', '\uE3B1', '\uE3B2', '\uE3B3', '\uE3B4',
+            '\uE3B5', '\uE3B6', '\uE3B7', '\uE3B8', '\uE3B9', '\uE3BA', '\uE3BB', '\uE3BC',
+            '\uE3BD', '\uE3BE', '\uE3BF', '\uE3C0', '\uE3C1', '\uE3C2', '\uE3C3', '\uE3C4',
+            '\uE3C5', '\uE3C6', '\uE3C7', '\uE3C8', '\uE3C9', '\uE3CA', '\uE3CB', '\uE3CC',
+            '\uE3CD', '\uE3CE', '\uE3CF', '\uE3D0', '\uE3D1', '\uE3D2', '\uE3D3', '\uE3D4',
+            '\uE3D5', '\uE3D6', '\uE3D7', '\uE3D8', '\uE3D9', '\uE3DA', '\uE3DB', '\uE3DC',
+            '\uE3DD', '\uE3DE', '\uE3DF', '\uE3E0', '\uE3E2', '\uE3E3', '\uE3E4', '\uE3E5',
+            '\uE3E6', '\uE3E7', '\uE3E8', '\uE3E9', '\uE3EA', '\uE3EB', '\uE3EC', '\uE3ED',
+            '\uE3EE', '\uE3F1', '\uE3F2', '\uE3F3', '\uE3F4', '\uE3F5', '\uE3F6', '\uE3F7',
+            '\uE3F8', '\uE3F9', '\uE3FA', '\uE3FB', '\uE3FC', '\uE3FD', '\uE3FE', '\uE3FF',
+            '\uE400', '\uE401', '\uE402', '\uE403', '\uE404', '\uE405', '\uE406', '\uE407',
+            '\uE408', '\uE409', '\uE40A', '\uE40B', '\uE40C', '\uE40D', '\uE40E', '\uE40F',
+            '\uE410', '\uE411', '\uE412', '\uE413', '\uE415', '\uE416', '\uE417', '\uE418',
+            '\uE419', '\uE41A', '\uE41B', '\uE41C', '\uE41D', '\uE41E', '\uE41F', '\uE420',
+            '\uE421', '\uE422', '\uE423', '\uE424', '\uE425', '\uE426', '\uE427', '\uE428',
+            '\uE429', '\uE42A', '\uE42B', '\uE42C', '\uE42D', '\uE42E', '\uE430', '\uE431',
+            '\uE432', '\uE433', '\uE434', '\uE435', '\uE436', '\uE437', '\uE438', '\uE439',
+            '\uE43A', '\uE43B', '\uE43C', '\uE52D', '\uE52E', '\uE52F', '\uE530', '\uE531',
+            '\uE532', '\uE533', '\uE534', '\uE535', '\uE536', '\uE539', '\uE53A', '\uE53B',
+            '\uE53C', '\uE53D', '\uE53E', '\uE53F', '\uE540', '\uE541', '\uE542', '\uE543',
+            '\uE544', '\uE545', '\uE546', '\uE547', '\uE548', '\uE549', '\uE54A', '\uE54B',
+            '\uE54C', '\uE54D', '\uE54E', '\uE54F', '\uE550', '\uE551', '\uE552', '\uE553',
+            '\uE554', '\uE555', '\uE556', '\uE557', '\uE558', '\uE559', '\uE55A', '\uE55B',
+            '\uE55C', '\uE55D', '\uE55E', '\uE55F', '\uE560', '\uE561', '\uE562', '\uE563',
+            '\uE564', '\uE565', '\uE566', '\uE567', '\uE568', '\uE569', '\uE56A', '\uE56B',
+            '\uE56C', '\uE56D', '\uE56E', '\uE56F', '\uE570', '\uE571', '\uE572', '\uE5C3',
+            '\uE5C4', '\uE5C5', '\uE5C6', '\uE5C7', '\uE5C8', '\uE5C9', '\uE5CA', '\uE5CB',
+            '\uE5CC', '\uE5CD', '\uE5CE', '\uE5CF', '\uE5D0', '\uE5D1', '\uE5D2', '\uE5D3',
+            '\uE5D4', '\uE5D5', '\uE5D6', '\uE5D7', '\uE5D8', '\uE5D9', '\uE5DA', '\uE5DB',
+            '\uE5DC', '\uE5DD', '\uE60E', '\uE60F', '\uE610', '\uE611', '\uE612', '\uE613',
+            '\uE614', '\uE615', '\uE616', '\uE617', '\uE618', '\uE619', '\uE61A', '\uE61B',
+            '\uE61C', '\uE61D', '\uE61E', '\uE61F', '\uE620', '\uE623', '\uE624', '\uE625',
+            '\uE626', '\uE627', '\uE628', '\uE629', '\uE62A', '\uE62B', '\uE62C', '\uE62D',
+            '\uE62E', '\uE62F', '\uE630', '\uE631', '\uE632', '\uE633', '\uE634', '\uE635',
+            '\uE636', '\uE637', '\uE638', '\uE639', '\uE63A', '\uE63B', '\uE63C', '\uE63D',
+            '\uE63E', '\uE63F', '\uE640', '\uE641', '\uE642', '\uE643', '\uE644', '\uE645',
+            '\uE6C4', '\uE6C5', '\uE6DD', '\uE6DF', '\uE6E1', '\uE7E9', '\uE7EE', '\uE7EF',
+            '\uE7F0', '\uE7F1', '\uE7F2', '\uE7F3', '\uE7F4', '\uE7F5', '\uE7F6', '\uE7F7',
+            '\uE7F8', '\uE7F9', '\uE7FA', '\uE7FB', '\uE7FC', '\uE7FD', '\uE7FE', '\uE7FF',
+            '\uE800', '\uE801', '\uE80B', '\uE80C', '\uE80D', '\uE80E', '\uE811', '\uE812',
+            '\uE813', '\uE814', '\uE815', '\uE834', '\uE835', '\uE836', '\uE837', '\uE838',
+            '\uE839', '\uE83A', '\uE84D', '\uE84E', '\uE84F', '\uE850', '\uE851', '\uE853',
+            '\uE854', '\uE855', '\uE856', '\uE857', '\uE858', '\uE859', '\uE85A', '\uE85B',
+            '\uE85C', '\uE85D', '\uE85E', '\uE85F', '\uE860', '\uE861', '\uE862', '\uE863',
+            '\uE864', '\uE865', '\uE866', '\uE867', '\uE868', '\uE869', '\uE86A', '\uE86B',
+            '\uE86C', '\uE86D', '\uE86E', '\uE86F', '\uE870', '\uE871', '\uE872', '\uE873',
+            '\uE875', '\uE876', '\uE877', '\uE878', '\uE879', '\uE87A', '\uE87B', '\uE87C',
+            '\uE87D', '\uE87E', '\uE87F', '\uE880', '\uE881', '\uE882', '\uE883', '\uE884',
+            '\uE885', '\uE886', '\uE887', '\uE888', '\uE889', '\uE88A', '\uE88B', '\uE88C',
+            '\uE88D', '\uE88E', '\uE88F', '\uE890', '\uE891', '\uE892', '\uE893', '\uE894',
+            '\uE895', '\uE896', '\uE897', '\uE898', '\uE899', '\uE89A', '\uE89B', '\uE89C',
+            '\uE89D', '\uE89E', '\uE89F', '\uE8A0', '\uE8A1', '\uE8A2', '\uE8A3', '\uE8A4',
+            '\uE8A5', '\uE8A6', '\uE8A7', '\uE8A8', '\uE8A9', '\uE8AA', '\uE8AB', '\uE8AC',
+            '\uE8AD', '\uE8AE', '\uE8AF', '\uE8B0', '\uE8B1', '\uE8B2', '\uE8B3', '\uE8B4',
+            '\uE8B5', '\uE8B6', '\uE8B8', '\uE8B9', '\uE8BA', '\uE8BB', '\uE8BC', '\uE8BD',
+            '\uE8BE', '\uE8BF', '\uE8C0', '\uE8C1', '\uE8C2', '\uE8C3', '\uE8C4', '\uE8C5',
+            '\uE8C6', '\uE8C7', '\uE8C8', '\uE8C9', '\uE8CA', '\uE8CB', '\uE8CC', '\uE8CD',
+            '\uE8CE', '\uE8D0', '\uE8D1', '\uE8D2', '\uE8D3', '\uE8D4', '\uE8D5', '\uE8D6',
+            '\uE8D7', '\uE8D8', '\uE8D9', '\uE8DA', '\uE8DB', '\uE8DC', '\uE8DD', '\uE8DE',
+            '\uE8DF', '\uE8E0', '\uE8E1', '\uE8E2', '\uE8E3', '\uE8E4', '\uE8E5', '\uE8E6',
+            '\uE8E7', '\uE8E8', '\uE8E9', '\uE8EA', '\uE8EB', '\uE8EC', '\uE8ED', '\uE8EE',
+            '\uE8EF', '\uE8F0', '\uE8F1', '\uE8F2', '\uE8F3', '\uE8F4', '\uE8F5', '\uE8F6',
+            '\uE8F7', '\uE8F8', '\uE8F9', '\uE8FA', '\uE8FB', '\uE8FC', '\uE8FD', '\uE8FE',
+            '\uE8FF', '\uE900', '\uE902', '\uE903', '\uE904', '\uE905', '\uE906', '\uE908',
+            '\uE909', '\uE90A', '\uE90B', '\uE90C', '\uE90D', '\uE90E', '\uE90F', '\uE911',
+            '\uE912', '\uE913', '\uE914', '\uE915', '\uE916', '\uE917', '\uE918', '\uE919',
+            '\uE91A', '\uE91B', '\uE91C', '\uE91D', '\uE91E', '\uE91F', '\uE920', '\uE921',
+            '\uE922', '\uE923', '\uE924', '\uE925', '\uE926', '\uE927', '\uE928', '\uE929',
+            '\uE92A', '\uE92B', '\uEB3B', '\uEB3C', '\uEB3D', '\uEB3E', '\uEB3F', '\uEB40',
+            '\uEB41', '\uEB42', '\uEB43', '\uEB44', '\uEB45', '\uEB46', '\uEB47', '\uEB48',
+            '\uEB49', '\uEB4A', '\uEB4B', '\uEB4C'
+    };
+
+    /**
+     * Indexes in {@link #NAMES} of the icons in {@link #CODEPOINTS}, in the
+     * same order.
+     */
+    private static final short[] NAMES_BY_CODEPOINT = {
+            260, 261, 909, 13, 39, 69, 168, 259, 272, 282, 283, 370,
+            397, 402, 514, 527, 528, 529, 544, 458, 459, 460, 561, 571,
+            590, 591, 592, 644, 645, 646, 641, 665, 666, 668, 673, 685,
+            686, 687, 756, 767, 768, 776, 795, 808, 811, 883, 878, 879,
+            902, 903, 904, 905, 918, 389, 778, 33, 362, 363, 364, 688,
+            689, 690, 21, 289, 291, 643, 53, 290, 293, 549, 807, 642,
+            667, 681, 770, 919, 292, 105, 135, 286, 287, 564, 881, 882,
+            123, 127, 128, 129, 130, 131, 133, 134, 152, 166, 181, 186,
+            226, 227, 257, 360, 415, 429, 468, 501, 502, 526, 153, 154,
+            573, 611, 652, 188, 187, 699, 785, 791, 792, 793, 794, 812,
+            831, 900, 906, 613, 614, 616, 617, 658, 414, 519, 719, 796,
+            132, 708, 11, 15, 16, 17, 45, 71, 80, 165, 189, 190,
+            191, 195, 250, 312, 321, 361, 372, 416, 465, 518, 521, 676,
+            678, 679, 680, 691, 692, 693, 711, 724, 725, 777, 834, 868,
+            336, 543, 867, 562, 920, 216, 516, 2, 3, 4, 12, 32,
+            31, 73, 74, 75, 76, 77, 81, 83, 84, 85, 113, 114,
+            115, 116, 211, 222, 223, 253, 376, 377, 378, 500, 503, 382,
+            557, 560, 563, 908, 922, 715, 716, 717, 718, 721, 747, 757,
+            758, 759, 760, 761, 762, 763, 764, 797, 872, 924, 925, 65,
+            66, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103,
+            104, 337, 338, 339, 340, 341, 342, 343, 344, 345, 346, 347,
+            348, 349, 350, 351, 352, 353, 355, 356, 357, 358, 359, 368,
+            421, 422, 423, 424, 425, 426, 427, 525, 531, 532, 662, 780,
+            802, 874, 875, 876, 927, 534, 251, 354, 400, 462, 754, 833,
+            533, 846, 64, 169, 170, 171, 172, 173, 174, 175, 294, 295,
+            332, 333, 334, 196, 147, 148, 184, 218, 219, 221, 240, 369,
+            394, 395, 431, 432, 433, 434, 435, 436, 437, 438, 439, 440,
+            441, 447, 448, 449, 450, 523, 542, 618, 622, 612, 615, 706,
+            712, 723, 765, 771, 781, 782, 824, 825, 826, 852, 866, 910,
+            225, 655, 224, 880, 20, 22, 62, 63, 67, 86, 87, 88,
+            89, 106, 107, 108, 109, 110, 111, 112, 117, 118, 136, 137,
+            139, 140, 141, 149, 150, 177, 180, 179, 182, 192, 193, 199,
+            200, 198, 201, 202, 203, 204, 205, 206, 207, 209, 213, 220,
+            254, 274, 275, 276, 277, 278, 279, 297, 298, 299, 296, 300,
+            301, 302, 303, 304, 305, 306, 307, 308, 309, 310, 311, 313,
+            314, 315, 322, 323, 324, 325, 329, 380, 381, 383, 384, 390,
+            391, 392, 393, 396, 411, 412, 430, 445, 455, 456, 457, 508,
+            507, 509, 510, 511, 512, 513, 515, 535, 545, 548, 551, 552,
+            553, 554, 582, 583, 584, 585, 586, 587, 626, 627, 628, 630,
+            634, 653, 682, 702, 703, 704, 769, 800, 803, 816, 817, 828,
+            832, 839, 842, 843, 841, 844, 850, 858, 863, 888, 889, 912,
+            913, 914, 916, 178, 631, 632, 633, 897, 915, 208, 466, 14,
+            546, 629, 122, 79, 228, 229, 231, 232, 230, 235, 233, 236,
+            237, 326, 405, 453, 454, 471, 472, 470, 473, 474, 475, 476,
+            478, 479, 480, 481, 482, 483, 484, 485, 486, 487, 488, 489,
+            490, 491, 492, 493, 494, 495, 477, 496, 497, 498, 608, 520,
+            550, 555, 639, 640, 671, 696, 710, 799, 830, 854, 234, 18,
+            255, 556, 609, 931, 695, 268, 801, 809, 855, 856, 857, 44,
+            46, 48, 49, 50, 51, 142, 155, 159, 160, 167, 270, 271,
+            366, 367, 524, 539, 540, 677, 869, 870, 52, 804, 805, 47,
+            319, 451, 10, 82, 238, 247, 246, 252, 264, 265, 266, 335,
+            530, 538, 559, 619, 620, 621, 623, 624, 625, 720, 766, 774,
+            775, 818, 819, 820, 821, 829, 845, 877, 901, 907, 23, 24,
+            25, 26, 27, 28, 29, 30, 185, 469, 575, 605, 654, 917,
+            923, 258, 558, 572, 709, 248, 249, 660, 637, 638, 119, 547,
+            755, 126, 241, 385, 386, 499, 536, 537, 566, 568, 569, 567,
+            570, 580, 589, 594, 595, 604, 606, 607, 648, 649, 661, 714,
+            749, 921, 726, 727, 728, 729, 730, 156, 157, 670, 669, 787,
+            790, 789, 70, 0, 5, 6, 7, 8, 19, 35, 36, 37,
+            38, 42, 43, 54, 55, 56, 57, 58, 59, 60, 61, 68,
+            72, 90, 91, 92, 120, 121, 125, 151, 158, 163, 164, 176,
+            197, 210, 214, 217, 239, 242, 243, 263, 269, 273, 280, 281,
+            284, 285, 288, 316, 317, 330, 331, 373, 379, 387, 398, 401,
+            403, 404, 407, 408, 410, 418, 419, 420, 428, 443, 444, 446,
+            452, 467, 504, 505, 506, 517, 522, 565, 577, 578, 579, 581,
+            593, 596, 597, 598, 599, 600, 601, 602, 603, 635, 650, 656,
+            659, 663, 664, 672, 675, 694, 697, 700, 713, 722, 731, 732,
+            733, 734, 736, 735, 737, 738, 739, 740, 741, 742, 743, 744,
+            745, 746, 748, 750, 753, 751, 752, 783, 786, 788, 798, 806,
+            810, 813, 814, 815, 822, 823, 827, 835, 837, 838, 836, 847,
+            848, 849, 853, 859, 860, 861, 862, 864, 865, 873, 884, 885,
+            886, 887, 890, 891, 892, 893, 894, 895, 896, 898, 899, 143,
+            144, 145, 926, 928, 256, 138, 399, 684, 929, 930, 409, 267,
+            327, 328, 647, 374, 417, 574, 41, 194, 318, 371, 461, 636,
+            413, 851, 1, 183, 212, 244, 245, 463, 464, 541, 576, 610,
+            657, 674, 705, 707, 840, 871, 911, 588, 262, 388, 683, 698,
+            784, 215, 9, 34, 40, 78, 124, 146, 161, 162, 320, 365,
+            375, 406, 442, 651, 701, 772, 773, 779
+    };
+
+    private MaterialIconNames() {
+    }
+
+    /**
+     * Gets the number of icons in the index.
+     *
+     * @return the number of icons
+     */
+    public static int size() {
+        return NAMES.length;
+    }
+
+    /**
+     * Gets the codepoint of an icon by the name of its constant in
+     * {@link MaterialIcons}. Names are case-insensitive.
+     *
+     * @param name the name of the icon, e.g. {@code "access_alarm"}
+     * @return the codepoint of the icon, or {@code -1} if there is no icon
+     * with such a name
+     */
+    public static int codepointOf(CharSequence name) {
+        int low = 0;
+        int high = NAMES.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(NAMES[middle], name);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return CODEPOINTS_BY_NAME[middle];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the name of the constant of an icon in {@link MaterialIcons}.
+     *
+     * @param codepoint the codepoint of the icon
+     * @return the name of the icon, or {@code null} if there is no icon with
+     * such a codepoint
+     */
+    public static String nameOf(char codepoint) {
+        int low = 0;
+        int high = CODEPOINTS.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char current = CODEPOINTS[middle];
+            if (current < codepoint) {
+                low = middle + 1;
+            } else if (current > codepoint) {
+                high = middle - 1;
+            } else {
+                return NAMES[NAMES_BY_CODEPOINT[middle]];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the name of the icon at the given position, in alphabetical order.
+     * Along with {@link #size()}, this allows going through all the icons
+     * without allocating.
+     *
+     * @param index the position of the icon
+     * @return the name of the icon
+     */
+    public static String nameAt(int index) {
+        return NAMES[index];
+    }
+
+    /**
+     * Gets the codepoint of the icon at the given position, in alphabetical
+     * order of names.
+     *
+     * @param index the position of the icon
+     * @return the codepoint of the icon
+     */
+    public static char codepointAt(int index) {
+        return CODEPOINTS_BY_NAME[index];
+    }
+
+    /**
+     * Compares an upper case name with a name in any case.
+     */
+    private static int compare(String upperCaseName, CharSequence name) {
+        int length = Math.min(upperCaseName.length(), name.length());
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            if (upperCaseName.charAt(i) != c) {
+                return upperCaseName.charAt(i) - c;
+            }
+        }
+        return upperCaseName.length() - name.length();
+    }
+}
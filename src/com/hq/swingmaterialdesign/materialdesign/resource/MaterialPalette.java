@@ -0,0 +1,374 @@
+package com.hq.swingmaterialdesign.materialdesign.resource;
+
+import java.awt.Color;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The Material Design color palette, packed as ARGB integers. Colors are
+ * addressed by hue and shade, e.g. {@code getColor(MaterialPalette.CYAN, 500)}
+ * or {@code getColor(MaterialPalette.PINK, MaterialPalette.A200)}, by name,
+ * e.g. {@code indexOf("PINK_A200")}, or by their position in the palette.
+ * Black and white with the opacities used for text and dividers, which aren't
+ * part of the palette, are given as ARGB constants, e.g.
+ * {@link #DARK_BLACK_ARGB}.
+ * <p>
+ * Loading this class only builds a few primitive arrays. {@link Color}
+ * instances are created the first time each of them is asked for and shared
+ * afterwards, and going through the palette with {@link #size()} and
+ * {@link #getArgb(int)} doesn't allocate at all.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class MaterialPalette {
+
+    /**
+     * Hues of the palette.
+     */
+    public static final int RED = 0;
+    public static final int PINK = 1;
+    public static final int PURPLE = 2;
+    public static final int DEEPPURPLE = 3;
+    public static final int INDIGO = 4;
+    public static final int BLUE = 5;
+    public static final int LIGHTBLUE = 6;
+    public static final int CYAN = 7;
+    public static final int TEAL = 8;
+    public static final int GREEN = 9;
+    public static final int LIGHTGREEN = 10;
+    public static final int LIME = 11;
+    public static final int YELLOW = 12;
+    public static final int AMBER = 13;
+    public static final int ORANGE = 14;
+    public static final int DEEPORANGE = 15;
+    public static final int BROWN = 16;
+    public static final int BLUEGREY = 17;
+    public static final int GREY = 18;
+
+    /**
+     * Number of hues in the palette.
+     */
+    public static final int HUE_COUNT = 19;
+
+    /**
+     * Accent shades. Regular shades are addressed by their own number, e.g.
+     * {@code 500}.
+     */
+    public static final int A100 = 1100, A200 = 1200, A400 = 1400, A700 = 1700;
+
+    /**
+     * Black and white with the opacities used for text and dividers, as ARGB
+     * integers. These are the values of the {@link MaterialColor} constants
+     * of the same name.
+     */
+    public static final int TRANSPARENT_ARGB = 0x00000000;
+    public static final int DARK_BLACK_ARGB = 0xDE000000;
+    public static final int LIGHT_BLACK_ARGB = 0x8A000000;
+    public static final int MIN_BLACK_ARGB = 0x42000000;
+    public static final int FAINT_BLACK_ARGB = 0x1F000000;
+    public static final int DARK_WHITE_ARGB = 0xDEFFFFFF;
+    public static final int LIGHT_WHITE_ARGB = 0x8AFFFFFF;
+
+    private static final String[] HUE_NAMES = {
+            "RED", "PINK", "PURPLE", "DEEPPURPLE", "INDIGO", "BLUE",
+            "LIGHTBLUE", "CYAN", "TEAL", "GREEN", "LIGHTGREEN", "LIME",
+            "YELLOW", "AMBER", "ORANGE", "DEEPORANGE", "BROWN", "BLUEGREY",
+            "GREY"
+    };
+
+    /**
+     * Position of the first color of each hue, followed by the size of the
+     * palette.
+     */
+    private static final short[] HUE_STARTS = {
+            0, 14, 28, 42, 56, 70, 84, 98, 112, 126,
+            140, 154, 168, 182, 196, 210, 224, 234, 244, 255
+    };
+
+    private static final short[] SHADES = {
+            50, 100, 200, 300, 400, 500, 600, 700, 800, 900,
+            A100, A200, A400, A700, 50, 100, 200, 300, 400, 500,
+            600, 700, 800, 900, A100, A200, A400, A700, 50, 100,
+            200, 300, 400, 500, 600, 700, 800, 900, A100, A200,
+            A400, A700, 50, 100, 200, 300, 400, 500, 600, 700,
+            800, 900, A100, A200, A400, A700, 50, 100, 200, 300,
+            400, 500, 600, 700, 800, 900, A100, A200, A400, A700,
+            50, 100, 200, 300, 400, 500, 600, 700, 800, 900,
+            A100, A200, A400, A700, 50, 100, 200, 300, 400, 500,
+            600, 700, 800, 900, A100, A200, A400, A700, 50, 100,
+            200, 300, 400, 500, 600, 700, 800, 900, A100, A200,
+            A400, A700, 50, 100, 200, 300, 400, 500, 600, 700,
+            800, 900, A100, A200, A400, A700, 50, 100, 200, 300,
+            400, 500, 600, 700, 800, 900, A100, A200, A400, A700,
+            50, 100, 200, 300, 400, 500, 600, 700, 800, 900,
+            A100, A200, A400, A700, 50, 100, 200, 300, 400, 500,
+            600, 700, 800, 900, A100, A200, A400, A700, 50, 100,
+            200, 300, 400, 500, 600, 700, 800, 900, A100, A200,
+            A400, A700, 50, 100, 200, 300, 400, 500, 600, 700,
+            800, 900, A100, A200, A400, A700, 50, 100, 200, 300,
+            400, 500, 600, 700, 800, 900, A100, A200, A400, A700,
+            50, 100, 200, 300, 400, 500, 600, 700, 800, 900,
+            A100, A200, A400, A700, 50, 100, 200, 300, 400, 500,
+            600, 700, 800, 900, 50, 100, 200, 300, 400, 500,
+            600, 700, 800, 900, 50, 100, 200, 300, 400, 500,
+            600, 700, 800, 850, 900
+    };
+
+    private static final int[] ARGB = {
+            0xffffebee, 0xffffcdd2, 0xffef9a9a, 0xffe57373, 0xffef5350, 0xfff44336,
+            0xffe53935, 0xffd32f2f, 0xffc62828, 0xffb71c1c, 0xffff8a80, 0xffff5252,
+            0xffff1744, 0xffd50000, 0xfffce4ec, 0xfff8bbd0, 0xfff48fb1, 0xfff06292,
+            0xffec407a, 0xffe91e63, 0xffd81b60, 0xffc2185b, 0xffad1457, 0xff880e4f,
+            0xffff80ab, 0xffff4081, 0xfff50057, 0xffc51162, 0xfff3e5f5, 0xffe1bee7,
+            0xffce93d8, 0xffba68c8, 0xffab47bc, 0xff9c27b0, 0xff8e24aa, 0xff7b1fa2,
+            0xff6a1b9a, 0xff4a148c, 0xffea80fc, 0xffe040fb, 0xffd500f9, 0xffaa00ff,
+            0xffede7f6, 0xffd1c4e9, 0xffb39ddb, 0xff9575cd, 0xff7e57c2, 0xff673ab7,
+            0xff5e35b1, 0xff512da8, 0xff4527a0, 0xff311b92, 0xffb388ff, 0xff7c4dff,
+            0xff651fff, 0xff6200ea, 0xffe8eaf6, 0xffc5cae9, 0xff9fa8da, 0xff7986cb,
+            0xff5c6bc0, 0xff3f51b5, 0xff3949ab, 0xff303f9f, 0xff283593, 0xff1a237e,
+            0xff8c9eff, 0xff536dfe, 0xff3d5afe, 0xff304ffe, 0xffe3f2fd, 0xffbbdefb,
+            0xff90caf9, 0xff64b5f6, 0xff42a5f5, 0xff2196f3, 0xff1e88e5, 0xff1976d2,
+            0xff1565c0, 0xff0d47a1, 0xff82b1ff, 0xff448aff, 0xff2979ff, 0xff2962ff,
+            0xffe1f5fe, 0xffb3e5fc, 0xff81d4fa, 0xff4fc3f7, 0xff29b6f6, 0xff03a9f4,
+            0xff039be5, 0xff0288d1, 0xff0277bd, 0xff01579b, 0xff80d8ff, 0xff40c4ff,
+            0xff00b0ff, 0xff0091ea, 0xffe0f7fa, 0xffb2ebf2, 0xff80deea, 0xff4dd0e1,
+            0xff26c6da, 0xff00bcd4, 0xff00acc1, 0xff0097a7, 0xff00838f, 0xff006064,
+            0xff84ffff, 0xff18ffff, 0xff00e5ff, 0xff00b8d4, 0xffe0f2f1, 0xffb2dfdb,
+            0xff80cbc4, 0xff4db6ac, 0xff26a69a, 0xff009688, 0xff00897b, 0xff00796b,
+            0xff00695c, 0xff004d40, 0xffa7ffeb, 0xff64ffda, 0xff1de9b6, 0xff00bfa5,
+            0xffe8f5e9, 0xffc8e6c9, 0xffa5d6a7, 0xff81c784, 0xff66bb6a, 0xff4caf50,
+            0xff43a047, 0xff388e3c, 0xff2e7d32, 0xff1b5e20, 0xffb9f6ca, 0xff69f0ae,
+            0xff00e676, 0xff00c853, 0xfff1f8e9, 0xffdcedc8, 0xffc5e1a5, 0xffaed581,
+            0xff9ccc65, 0xff8bc34a, 0xff7cb342, 0xff689f38, 0xff558b2f, 0xff33691e,
+            0xffccff90, 0xffb2ff59, 0xff76ff03, 0xff64dd17, 0xfff9fbe7, 0xfff0f4c3,
+            0xffe6ee9c, 0xffdce775, 0xffd4e157, 0xffcddc39, 0xffc0ca33, 0xffafb42b,
+            0xff9e9d24, 0xff827717, 0xfff4ff81, 0xffeeff41, 0xffc6ff00, 0xffaeea00,
+            0xfffffde7, 0xfffff9c4, 0xfffff59d, 0xfffff176, 0xffffee58, 0xffffeb3b,
+            0xfffdd835, 0xfffbc02d, 0xfff9a825, 0xfff57f17, 0xffffff8d, 0xffffff00,
+            0xffffea00, 0xffffd600, 0xfffff8e1, 0xffffecb3, 0xffffe082, 0xffffd54f,
+            0xffffca28, 0xffffc107, 0xffffb300, 0xffffa000, 0xffff8f00, 0xffff6f00,
+            0xffffe57f, 0xffffd740, 0xffffc400, 0xffffab00, 0xfffff3e0, 0xffffe0b2,
+            0xffffcc80, 0xffffb74d, 0xffffa726, 0xffff9800, 0xfffb8c00, 0xfff57c00,
+            0xffef6c00, 0xffe65100, 0xffffd180, 0xffffab40, 0xffff9100, 0xffff6d00,
+            0xfffbe9e7, 0xffffccbc, 0xffffab91, 0xffff8a65, 0xffff7043, 0xffff5722,
+            0xfff4511e, 0xffe64a19, 0xffd84315, 0xffbf360c, 0xffff9e80, 0xffff6e40,
+            0xffff3d00, 0xffdd2c00, 0xffefebe9, 0xffd7ccc8, 0xffbcaaa4, 0xffa1887f,
+            0xff8d6e63, 0xff795548, 0xff6d4c41, 0xff5d4037, 0xff4e342e, 0xff3e2723,
+            0xffeceff1, 0xffcfd8dc, 0xffb0bec5, 0xff90a4ae, 0xff78909c, 0xff607d8b,
+            0xff546e7a, 0xff455a64, 0xff37474f, 0xff263238, 0xfffafafa, 0xfff5f5f5,
+            0xffeeeeee, 0xffe0e0e0, 0xffbdbdbd, 0xff9e9e9e, 0xff757575, 0xff616161,
+            0xff424242, 0xff313131, 0xff212121
+    };
+
+    private static final AtomicReferenceArray<Color> COLORS = new AtomicReferenceArray<>(ARGB.length);
+
+    private MaterialPalette() {
+    }
+
+    /**
+     * Gets the number of colors in the palette.
+     *
+     * @return the number of colors
+     */
+    public static int size() {
+        return ARGB.length;
+    }
+
+    /**
+     * Gets the position of a color in the palette.
+     *
+     * @param hue the hue of the color, e.g. {@link #CYAN}
+     * @param shade the shade of the color, e.g. {@code 500} or {@link #A200}
+     * @return the position of the color, or {@code -1} if the palette has no
+     * such color
+     */
+    public static int indexOf(int hue, int shade) {
+        if (hue < 0 || hue >= HUE_COUNT) {
+            return -1;
+        }
+        for (int i = HUE_STARTS[hue]; i < HUE_STARTS[hue + 1]; i++) {
+            if (SHADES[i] == shade) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the position of a color in the palette by its name, made of the
+     * name of its hue and its shade, e.g. {@code "CYAN_500"} or
+     * {@code "deeporange_a200"}. The names of the {@link MaterialColor}
+     * constants, e.g. {@code "PINKA_200"} or {@code "RED__50"}, are accepted
+     * as well. Names are case-insensitive.
+     *
+     * @param name the name of the color
+     * @return the position of the color, or {@code -1} if the palette has no
+     * such color
+     */
+    public static int indexOf(CharSequence name) {
+        int separator = name.length() - 1;
+        while (separator >= 0 && name.charAt(separator) != '_') {
+            separator--;
+        }
+        if (separator <= 0 || separator == name.length() - 1) {
+            return -1;
+        }
+        int hueLength = separator;
+        if (name.charAt(hueLength - 1) == '_') {
+            // the spelling of MaterialColor.RED__50
+            hueLength--;
+        }
+        int shade = 0;
+        int hue = hueOf(name, hueLength);
+        if (hue < 0 && hueLength > 1 && isAccent(name.charAt(hueLength - 1))) {
+            // the spelling of MaterialColor.PINKA_200
+            hue = hueOf(name, hueLength - 1);
+            shade = 1000;
+        }
+        if (hue < 0) {
+            return -1;
+        }
+        int digit = separator + 1;
+        if (isAccent(name.charAt(digit))) {
+            if (shade != 0) {
+                return -1;
+            }
+            shade = 1000;
+            digit++;
+        }
+        int value = 0;
+        for (; digit < name.length(); digit++) {
+            char c = name.charAt(digit);
+            if (c < '0' || c > '9' || value > 1000) {
+                return -1;
+            }
+            value = value * 10 + c - '0';
+        }
+        return indexOf(hue, shade + value);
+    }
+
+    /**
+     * Gets the color at the given position in the palette.
+     *
+     * @param index the position of the color
+     * @return the color, as an ARGB integer
+     */
+    public static int getArgb(int index) {
+        return ARGB[index];
+    }
+
+    /**
+     * Gets a color of the palette.
+     *
+     * @param hue the hue of the color, e.g. {@link #CYAN}
+     * @param shade the shade of the color, e.g. {@code 500} or {@link #A200}
+     * @return the color, as an ARGB integer
+     */
+    public static int getArgb(int hue, int shade) {
+        return ARGB[checkedIndexOf(hue, shade)];
+    }
+
+    /**
+     * Gets the color at the given position in the palette, creating its
+     * {@link Color} if this is the first time it is used.
+     *
+     * @param index the position of the color
+     * @return the shared color
+     */
+    public static Color getColor(int index) {
+        Color color = COLORS.get(index);
+        if (color == null) {
+            color = new Color(ARGB[index], true);
+            if (!COLORS.compareAndSet(index, null, color)) {
+                // another thread created it first
+                color = COLORS.get(index);
+            }
+        }
+        return color;
+    }
+
+    /**
+     * Gets a color of the palette, creating its {@link Color} if this is the
+     * first time it is used.
+     *
+     * @param hue the hue of the color, e.g. {@link #CYAN}
+     * @param shade the shade of the color, e.g. {@code 500} or {@link #A200}
+     * @return the shared color
+     */
+    public static Color getColor(int hue, int shade) {
+        return getColor(checkedIndexOf(hue, shade));
+    }
+
+    /**
+     * Gets the hue of the color at the given position in the palette.
+     *
+     * @param index the position of the color
+     * @return the hue of the color, e.g. {@link #CYAN}
+     */
+    public static int getHue(int index) {
+        if (index < 0 || index >= ARGB.length) {
+            throw new IndexOutOfBoundsException("Invalid palette index: " + index);
+        }
+        int hue = 0;
+        while (HUE_STARTS[hue + 1] <= index) {
+            hue++;
+        }
+        return hue;
+    }
+
+    /**
+     * Gets the shade of the color at the given position in the palette.
+     *
+     * @param index the position of the color
+     * @return the shade of the color, e.g. {@code 500} or {@link #A200}
+     */
+    public static int getShade(int index) {
+        return SHADES[index];
+    }
+
+    /**
+     * Gets the name of a hue.
+     *
+     * @param hue the hue, e.g. {@link #CYAN}
+     * @return the name of the hue, e.g. {@code "CYAN"}
+     */
+    public static String getHueName(int hue) {
+        return HUE_NAMES[hue];
+    }
+
+    private static int checkedIndexOf(int hue, int shade) {
+        int index = indexOf(hue, shade);
+        if (index < 0) {
+            throw new IllegalArgumentException("No color with hue " + hue + " and shade " + shade);
+        }
+        return index;
+    }
+
+    private static int hueOf(CharSequence name, int length) {
+        for (int i = 0; i < HUE_COUNT; i++) {
+            if (regionEquals(HUE_NAMES[i], name, length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAccent(char c) {
+        return c == 'A' || c == 'a';
+    }
+
+    private static boolean regionEquals(String upperCaseName, CharSequence name, int length) {
+        if (upperCaseName.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            }
+            if (upperCaseName.charAt(i) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
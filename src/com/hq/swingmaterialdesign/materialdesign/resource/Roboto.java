@@ -3,33 +3,128 @@ package com.hq.swingmaterialdesign.materialdesign.resource;
 import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The Roboto font.
- *
+ * <p>
+ * The {@link Font} constants of this class load every face as soon as any of
+ * them is used. Code that only needs a few faces should use {@link Face}
+ * instead, which loads each face the first time it is used, e.g.
+ * {@code FontCache.derive(Roboto.Face.REGULAR.getFont(), 16f)}.
  *
  * @author bilux (i.bilux@gmail.com)
  */
 public class Roboto {
 
-    public static final Font BLACK = loadFont("Roboto-Black.ttf").deriveFont(Font.BOLD);
-    public static final Font BLACK_ITALIC = loadFont("Roboto-BlackItalic.ttf").deriveFont(Font.BOLD | Font.ITALIC);
-    public static final Font BOLD_ITALIC = loadFont("Roboto-BoldItalic.ttf").deriveFont(Font.BOLD | Font.ITALIC);
-    public static final Font ITALIC = loadFont("Roboto-Italic.ttf").deriveFont(Font.ITALIC);
-    public static final Font LIGHT_ITALIC = loadFont("Roboto-LightItalic.ttf").deriveFont(Font.ITALIC);
-    public static final Font MEDIUM = loadFont("Roboto-Medium.ttf").deriveFont(Font.PLAIN);
-    public static final Font MEDIUM_ITALIC = loadFont("Roboto-MediumItalic.ttf").deriveFont(Font.ITALIC);
-    public static final Font REGULAR = loadFont("Roboto-Regular.ttf").deriveFont(Font.PLAIN);
-    public static final Font BOLD = loadFont("Roboto-Bold.ttf").deriveFont(Font.BOLD);
-    public static final Font THIN = loadFont("Roboto-Thin.ttf").deriveFont(Font.PLAIN);
-    public static final Font LIGHT = loadFont("Roboto-Light.ttf").deriveFont(Font.PLAIN);
-    public static final Font THIN_ITALIC = loadFont("Roboto-ThinItalic.ttf").deriveFont(Font.ITALIC);
-
-    private static Font loadFont(String resourceName) {
-        try (InputStream inputStream = Roboto.class.getResourceAsStream("/resources/fonts/" + resourceName)) {
-            return Font.createFont(Font.TRUETYPE_FONT, inputStream);
-        } catch (IOException | FontFormatException e) {
-            throw new RuntimeException("Could not load " + resourceName, e);
+    public static final Font BLACK = Face.BLACK.getFont();
+    public static final Font BLACK_ITALIC = Face.BLACK_ITALIC.getFont();
+    public static final Font BOLD_ITALIC = Face.BOLD_ITALIC.getFont();
+    public static final Font ITALIC = Face.ITALIC.getFont();
+    public static final Font LIGHT_ITALIC = Face.LIGHT_ITALIC.getFont();
+    public static final Font MEDIUM = Face.MEDIUM.getFont();
+    public static final Font MEDIUM_ITALIC = Face.MEDIUM_ITALIC.getFont();
+    public static final Font REGULAR = Face.REGULAR.getFont();
+    public static final Font BOLD = Face.BOLD.getFont();
+    public static final Font THIN = Face.THIN.getFont();
+    public static final Font LIGHT = Face.LIGHT.getFont();
+    public static final Font THIN_ITALIC = Face.THIN_ITALIC.getFont();
+
+    /**
+     * The faces of the Roboto font, loaded on demand.
+     * <p>
+     * Each face is loaded the first time it is used, so applications only pay
+     * for the faces they actually use. Faces that will be needed soon can be
+     * loaded in the background with {@link #prefetch(Face...)}, e.g. while a
+     * splash screen is shown.
+     */
+    public enum Face {
+
+        BLACK("Roboto-Black.ttf", Font.BOLD),
+        BLACK_ITALIC("Roboto-BlackItalic.ttf", Font.BOLD | Font.ITALIC),
+        BOLD_ITALIC("Roboto-BoldItalic.ttf", Font.BOLD | Font.ITALIC),
+        ITALIC("Roboto-Italic.ttf", Font.ITALIC),
+        LIGHT_ITALIC("Roboto-LightItalic.ttf", Font.ITALIC),
+        MEDIUM("Roboto-Medium.ttf", Font.PLAIN),
+        MEDIUM_ITALIC("Roboto-MediumItalic.ttf", Font.ITALIC),
+        REGULAR("Roboto-Regular.ttf", Font.PLAIN),
+        BOLD("Roboto-Bold.ttf", Font.BOLD),
+        THIN("Roboto-Thin.ttf", Font.PLAIN),
+        LIGHT("Roboto-Light.ttf", Font.PLAIN),
+        THIN_ITALIC("Roboto-ThinItalic.ttf", Font.ITALIC);
+
+        private final String resourceName;
+        private final int style;
+        private volatile Font font;
+
+        private Face(String resourceName, int style) {
+            this.resourceName = resourceName;
+            this.style = style;
+        }
+
+        /**
+         * Gets this face, loading it if this is the first time it is used.
+         * Sized fonts should be derived from it through {@link FontCache}.
+         *
+         * @return this face, with a size of 1 point
+         */
+        public Font getFont() {
+            Font loaded = font;
+            if (loaded == null) {
+                synchronized (this) {
+                    loaded = font;
+                    if (loaded == null) {
+                        loaded = loadFont(resourceName).deriveFont(style);
+                        font = loaded;
+                    }
+                }
+            }
+            return loaded;
+        }
+
+        /**
+         * Checks whether this face has already been loaded.
+         *
+         * @return {@code true} if this face is loaded
+         */
+        public boolean isLoaded() {
+            return font != null;
+        }
+
+        /**
+         * Loads the given faces in a background thread, so they are ready by
+         * the time they are used.
+         *
+         * @param faces the faces to load
+         * @return a future completed once all the faces are loaded
+         */
+        public static CompletableFuture<Void> prefetch(final Face... faces) {
+            final CompletableFuture<Void> loaded = new CompletableFuture<>();
+            Thread prefetchThread = new Thread(() -> {
+                try {
+                    for (Face face : faces) {
+                        face.getFont();
+                    }
+                    loaded.complete(null);
+                } catch (RuntimeException e) {
+                    loaded.completeExceptionally(e);
+                }
+            }, "Roboto prefetch");
+            prefetchThread.setDaemon(true);
+            prefetchThread.start();
+            return loaded;
+        }
+
+        /**
+         * Loads a font file. This is kept in the enum, so that using a face
+         * doesn't initialize {@link Roboto}, whose constants load every face.
+         */
+        private static Font loadFont(String resourceName) {
+            try (InputStream inputStream = Face.class.getResourceAsStream("/resources/fonts/" + resourceName)) {
+                return Font.createFont(Font.TRUETYPE_FONT, inputStream);
+            } catch (IOException | FontFormatException e) {
+                throw new RuntimeException("Could not load " + resourceName, e);
+            }
         }
     }
 }
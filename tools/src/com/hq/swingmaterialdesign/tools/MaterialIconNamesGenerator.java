@@ -0,0 +1,119 @@
+package com.hq.swingmaterialdesign.tools;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates the lookup tables of {@code MaterialIconNames} from the constants
+ * of {@code MaterialIcons}. Only the contents of the array initializers are
+ * rewritten, the rest of the class is kept as it is.
+ * <p>
+ * Usage: {@code MaterialIconNamesGenerator <MaterialIcons.java>
+ * <MaterialIconNames.java> [--check]}. With {@code --check}, nothing is
+ * written, and the generator fails if the tables are out of date.
+ *
+ * @author bilux (i.bilux@gmail.com)
+ */
+public final class MaterialIconNamesGenerator {
+
+    private static final Pattern ICON = Pattern.compile("public static final char (\\w+) = '\\\\u([0-9A-Fa-f]{4})';");
+    private static final String INDENT = "            ";
+
+    private MaterialIconNamesGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: MaterialIconNamesGenerator <MaterialIcons.java> <MaterialIconNames.java> [--check]");
+            System.exit(2);
+        }
+        Path iconsFile = Paths.get(args[0]);
+        Path namesFile = Paths.get(args[1]);
+        boolean check = args.length > 2 && "--check".equals(args[2]);
+
+        String icons = new String(Files.readAllBytes(iconsFile), StandardCharsets.UTF_8);
+        String current = new String(Files.readAllBytes(namesFile), StandardCharsets.UTF_8);
+        String generated = generate(icons, current);
+        if (generated.equals(current)) {
+            System.out.println(namesFile + " is up to date");
+        } else if (check) {
+            System.err.println(namesFile + " is out of date with " + iconsFile + ", run 'ant icon-names'");
+            System.exit(1);
+        } else {
+            Files.write(namesFile, generated.getBytes(StandardCharsets.UTF_8));
+            System.out.println("Regenerated " + namesFile);
+        }
+    }
+
+    static String generate(String icons, String names) {
+        List<String> iconNames = new ArrayList<>();
+        List<Character> iconCodepoints = new ArrayList<>();
+        Matcher matcher = ICON.matcher(icons);
+        while (matcher.find()) {
+            iconNames.add(matcher.group(1));
+            iconCodepoints.add((char) Integer.parseInt(matcher.group(2), 16));
+        }
+        int count = iconNames.size();
+        Integer[] byName = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            byName[i] = i;
+        }
+        // the same order as the case-insensitive search over upper case names
+        Arrays.sort(byName, (a, b) -> iconNames.get(a).compareTo(iconNames.get(b)));
+        Integer[] byCodepoint = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            byCodepoint[i] = i;
+        }
+        Arrays.sort(byCodepoint, (a, b) -> Character.compare(iconCodepoints.get(byName[a]), iconCodepoints.get(byName[b])));
+        for (int i = 1; i < count; i++) {
+            if (iconCodepoints.get(byName[byCodepoint[i]]).equals(iconCodepoints.get(byName[byCodepoint[i - 1]]))) {
+                throw new IllegalStateException("Duplicate codepoint: " + iconNames.get(byName[byCodepoint[i]]));
+            }
+        }
+
+        List<String> namesTable = new ArrayList<>();
+        List<String> codepointsByName = new ArrayList<>();
+        List<String> codepoints = new ArrayList<>();
+        List<String> namesByCodepoint = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            namesTable.add('"' + iconNames.get(byName[i]) + '"');
+            codepointsByName.add(charLiteral(iconCodepoints.get(byName[i])));
+            codepoints.add(charLiteral(iconCodepoints.get(byName[byCodepoint[i]])));
+            namesByCodepoint.add(Integer.toString(byCodepoint[i]));
+        }
+        names = replaceTable(names, "String[] NAMES", namesTable, 4);
+        names = replaceTable(names, "char[] CODEPOINTS_BY_NAME", codepointsByName, 8);
+        names = replaceTable(names, "char[] CODEPOINTS", codepoints, 8);
+        return replaceTable(names, "short[] NAMES_BY_CODEPOINT", namesByCodepoint, 12);
+    }
+
+    private static String charLiteral(char codepoint) {
+        return String.format(Locale.ROOT, "'\\u%04X'", (int) codepoint);
+    }
+
+    private static String replaceTable(String source, String declaration, List<String> items, int perLine) {
+        String opening = "private static final " + declaration + " = {\n";
+        int start = source.indexOf(opening);
+        if (start < 0) {
+            throw new IllegalStateException("Missing table: " + declaration);
+        }
+        start += opening.length();
+        int end = source.indexOf("    };\n", start);
+        StringBuilder table = new StringBuilder();
+        for (int i = 0; i < items.size(); i += perLine) {
+            List<String> line = items.subList(i, Math.min(items.size(), i + perLine));
+            table.append(INDENT).append(String.join(", ", line));
+            table.append(i + perLine < items.size() ? ",\n" : "\n");
+        }
+        return source.substring(0, start) + table + source.substring(end);
+    }
+}